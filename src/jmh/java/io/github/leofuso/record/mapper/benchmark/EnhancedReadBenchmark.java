@@ -0,0 +1,123 @@
+package io.github.leofuso.record.mapper.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import io.github.leofuso.record.mapper.instrument.bytecode.LogicalTypeConversionEnhancement;
+
+import org.apache.avro.EnhancedDecimalConversion;
+import org.apache.avro.Schema;
+import org.apache.avro.data.EnhancedTimeConversions;
+import org.apache.avro.generic.EnhancedGenericDatumReader;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.RelaxedJsonDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reads through the {@link EnhancedGenericDatumReader}, over a record of relaxed {@code int}, {@code long} and
+ * {@code bytes} values, every one of them going either through the rewritten decoder, or through the {@link RelaxedJsonDecoder}.
+ * <p>
+ * Run with {@code ./gradlew jmh}, adding {@code -prof gc} to the JMH arguments to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnhancedReadBenchmark {
+
+    private Fixture fixture;
+
+    @Setup
+    public void setUp() {
+        /* Must happen before any decoder class is loaded; the Fixture keeps every decoder reference away from this class */
+        LogicalTypeConversionEnhancement.enhance();
+        fixture = new Fixture();
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        return fixture.read();
+    }
+
+    @Benchmark
+    public Object readRelaxed() throws IOException {
+        return fixture.readRelaxed();
+    }
+
+    static final class Fixture {
+
+        private static final String SCHEMA = """
+                {
+                  "type": "record",
+                  "name": "Relaxed",
+                  "fields": [
+                    { "name": "int", "type": "int" },
+                    { "name": "long", "type": "long" },
+                    { "name": "date", "type": { "type": "int", "logicalType": "date" } },
+                    { "name": "timeMillis", "type": { "type": "int", "logicalType": "time-millis" } },
+                    { "name": "timestampMicros", "type": { "type": "long", "logicalType": "timestamp-micros" } },
+                    { "name": "localTimestampMillis", "type": { "type": "long", "logicalType": "local-timestamp-millis" } },
+                    { "name": "decimal", "type": { "type": "bytes", "logicalType": "decimal", "precision": 9, "scale": 3 } },
+                    { "name": "amount", "type": { "type": "bytes", "logicalType": "decimal", "precision": 9, "scale": 3 } }
+                  ]
+                }
+                """;
+
+        private static final String JSON = """
+                {
+                  "int": 42,
+                  "long": 9876543210,
+                  "date": "2022-12-22",
+                  "timeMillis": "20:23:59.059",
+                  "timestampMicros": "2022-12-18T04:51:55.565970Z",
+                  "localTimestampMillis": "2022-12-18T04:51:55.565",
+                  "decimal": 19.565,
+                  "amount": "19.565"
+                }
+                """;
+
+        private final EnhancedGenericDatumReader<GenericData.Record> reader;
+        private final JsonDecoder decoder;
+        private final RelaxedJsonDecoder relaxedDecoder;
+
+        Fixture() {
+            try {
+                final Schema schema = new Schema.Parser().parse(SCHEMA);
+                final GenericData data = new GenericData();
+                data.addLogicalTypeConversion(new EnhancedDecimalConversion());
+                data.addLogicalTypeConversion(new EnhancedTimeConversions.DateConversion());
+                data.addLogicalTypeConversion(new EnhancedTimeConversions.TimeMillisConversion());
+                data.addLogicalTypeConversion(new EnhancedTimeConversions.TimestampMicrosConversion());
+                data.addLogicalTypeConversion(new EnhancedTimeConversions.LocalTimestampMillisConversion());
+                reader = new EnhancedGenericDatumReader<>(schema, schema, data);
+                decoder = DecoderFactory.get().jsonDecoder(schema, JSON);
+                relaxedDecoder = new RelaxedJsonDecoder(schema, JSON);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Object read() throws IOException {
+            decoder.configure(JSON);
+            return reader.read(null, decoder);
+        }
+
+        Object readRelaxed() throws IOException {
+            relaxedDecoder.configure(JSON);
+            return reader.read(null, relaxedDecoder);
+        }
+    }
+}
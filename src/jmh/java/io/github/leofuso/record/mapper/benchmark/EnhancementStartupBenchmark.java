@@ -0,0 +1,69 @@
+package io.github.leofuso.record.mapper.benchmark;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the startup cost of the runtime enhancement, rebasing the Avro decoders with ByteBuddy, against the build-time one,
+ * where the already enhanced decoders are simply loaded.
+ * <p>
+ * Every measurement loads Avro, ByteBuddy and this library through a fresh class loader, and runs a {@link StartupProbe} in it.
+ * The {@code build-time} mode places the output of the {@code enhanceClasses} Gradle task, given by the
+ * {@code record-mapper.enhanced-classes} system property, ahead of Avro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10)
+@Fork(3)
+public class EnhancementStartupBenchmark {
+
+    private static final String ENHANCED_CLASSES = "record-mapper.enhanced-classes";
+
+    @Param({"runtime", "build-time"})
+    public String mode;
+
+    private URL[] classpath;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        final List<URL> urls = new ArrayList<>();
+        if (mode.equals("build-time")) {
+            final String enhancedClasses = System.getProperty(ENHANCED_CLASSES);
+            if (enhancedClasses == null) {
+                throw new IllegalStateException("System property [" + ENHANCED_CLASSES + "] is required.");
+            }
+            urls.add(new File(enhancedClasses).toURI().toURL());
+        }
+        for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            urls.add(new File(entry).toURI().toURL());
+        }
+        classpath = urls.toArray(URL[]::new);
+    }
+
+    @Benchmark
+    public Object startup() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+            final Class<?> probe = loader.loadClass(StartupProbe.class.getName());
+            return probe.getMethod("run").invoke(null);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.leofuso.record.mapper.benchmark;
+
+import java.io.IOException;
+
+import io.github.leofuso.record.mapper.instrument.bytecode.LogicalTypeConversionEnhancement;
+
+/**
+ * The work a freshly started application goes through before its first enhanced read: applying the enhancement, or finding it
+ * already applied at build time, and reading a single record. Meant to be loaded by its own class loader, once per measurement.
+ */
+public final class StartupProbe {
+
+    private StartupProbe() {
+    }
+
+    public static Object run() throws IOException {
+        LogicalTypeConversionEnhancement.enhance();
+        return new EnhancedReadBenchmark.Fixture().read();
+    }
+}
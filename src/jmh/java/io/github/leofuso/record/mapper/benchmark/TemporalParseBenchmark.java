@@ -0,0 +1,102 @@
+package io.github.leofuso.record.mapper.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.data.EnhancedTimeConversions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the relaxed {@link EnhancedTimeConversions}, parsing the common {@code ISO-8601} shapes by hand, against the JDK parsers
+ * they fall back to.
+ * <p>
+ * Run with {@code ./gradlew jmh}, adding {@code -prof gc} to the JMH arguments to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemporalParseBenchmark {
+
+    private static final String INSTANT = "2022-12-18T04:51:55.565970Z";
+    private static final String OFFSET_INSTANT = "2022-12-18T01:51:55.565970-03:00";
+    private static final String DATE = "2022-12-22";
+    private static final String TIME = "20:23:59.059";
+    private static final String LOCAL_TIMESTAMP = "2022-12-18T04:51:55.565";
+
+    private final Schema timestampSchema = LogicalTypes.timestampMicros().addToSchema(Schema.create(Schema.Type.LONG));
+    private final Schema dateSchema = LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT));
+    private final Schema timeSchema = LogicalTypes.timeMillis().addToSchema(Schema.create(Schema.Type.INT));
+    private final Schema localTimestampSchema = LogicalTypes.localTimestampMillis().addToSchema(Schema.create(Schema.Type.LONG));
+
+    private final EnhancedTimeConversions.TimestampMicrosConversion timestamp = new EnhancedTimeConversions.TimestampMicrosConversion();
+    private final EnhancedTimeConversions.DateConversion date = new EnhancedTimeConversions.DateConversion();
+    private final EnhancedTimeConversions.TimeMillisConversion time = new EnhancedTimeConversions.TimeMillisConversion();
+    private final EnhancedTimeConversions.LocalTimestampMillisConversion localTimestamp =
+            new EnhancedTimeConversions.LocalTimestampMillisConversion();
+
+    @Benchmark
+    public Instant instant() {
+        return timestamp.fromCharSequence(INSTANT, timestampSchema, timestampSchema.getLogicalType());
+    }
+
+    @Benchmark
+    public Instant instantJdk() {
+        return Instant.parse(INSTANT);
+    }
+
+    @Benchmark
+    public Instant offsetInstant() {
+        return timestamp.fromCharSequence(OFFSET_INSTANT, timestampSchema, timestampSchema.getLogicalType());
+    }
+
+    @Benchmark
+    public Instant offsetInstantJdk() {
+        return Instant.parse(OFFSET_INSTANT);
+    }
+
+    @Benchmark
+    public LocalDate date() {
+        return date.fromCharSequence(DATE, dateSchema, dateSchema.getLogicalType());
+    }
+
+    @Benchmark
+    public LocalDate dateJdk() {
+        return LocalDate.parse(DATE);
+    }
+
+    @Benchmark
+    public LocalTime time() {
+        return time.fromCharSequence(TIME, timeSchema, timeSchema.getLogicalType());
+    }
+
+    @Benchmark
+    public LocalTime timeJdk() {
+        return LocalTime.parse(TIME);
+    }
+
+    @Benchmark
+    public LocalDateTime localTimestamp() {
+        return localTimestamp.fromCharSequence(LOCAL_TIMESTAMP, localTimestampSchema, localTimestampSchema.getLogicalType());
+    }
+
+    @Benchmark
+    public LocalDateTime localTimestampJdk() {
+        return LocalDateTime.parse(LOCAL_TIMESTAMP);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.leofuso.record.mapper;
+
+import java.nio.ByteBuffer;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import io.github.leofuso.record.mapper.RecordMapper.AvroMappingException;
+
+/**
+ * A BatchMapper converts many {@code JSON} documents sharing a single {@link Schema}, setting everything up once, and reusing its
+ * encoders, buffers and record instances across the whole batch.
+ * <p>
+ * Every document is handed to a {@link Callback}, either as a value or as an error; a document failing to convert never aborts the
+ * batch. Values are only valid until the {@link Callback} returns, and must be copied if kept any longer.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public interface BatchMapper {
+
+    /**
+     * @return the {@link Schema} every document is bound to.
+     */
+    Schema getSchema();
+
+    /**
+     * Writes every {@code JSON} into a serialized {@link GenericRecord Record}, handed over as a read-only
+     * {@link ByteBuffer ByteBuffer} over a reused buffer.
+     */
+    void serializeAll(Iterable<String> json, Callback<ByteBuffer> callback);
+
+    /**
+     * Writes every {@code JSON} into a {@link Schema Schema-compatible} {@link GenericData.Record}, handed over as a reused
+     * instance.
+     */
+    void asGenericDataRecords(Iterable<String> json, Callback<GenericData.Record> callback);
+
+    /**
+     * Receives the outcome of every document in a batch, in iteration order.
+     */
+    interface Callback<T> {
+
+        /**
+         * Receives the {@code value} converted from the document at {@code index}.
+         */
+        void onValue(int index, T value);
+
+        /**
+         * Receives the {@code error} that prevented the document at {@code index} from being converted.
+         */
+        void onError(int index, AvroMappingException error);
+
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.leofuso.record.mapper;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * An EnhancementMetrics is a point-in-time snapshot of how often, and how fast, the <i>Enhanced</i> reads run, per interceptor.
+ * <p>
+ * Counters are always on. Latencies are only sampled if the {@code record-mapper.metrics.latency-sample-rate} system property is
+ * set to a positive {@code N}, timing one in every {@code N} intercepted reads, roughly.
+ *
+ * @see RecordMapperFactory#metrics()
+ */
+public interface EnhancementMetrics {
+
+    /**
+     * @return one in how many intercepted reads are timed, or {@code 0} if latencies are not sampled.
+     */
+    int getLatencySampleRate();
+
+    /**
+     * @return the counters of every interceptor, keyed by name, e.g. {@code EnhancedReadLong[bytecode]} or
+     * {@code EnhancedReadLong[lite]}.
+     */
+    Map<String, Counters> getInterceptors();
+
+    /**
+     * The counters of a single interceptor.
+     */
+    interface Counters {
+
+        /**
+         * @return how many reads were intercepted, i.e. took the relaxed path.
+         */
+        long getIntercepted();
+
+        /**
+         * @return how many reads fell back to the canonical path, per {@link Fallback reason}.
+         */
+        Map<Fallback, Long> getFallbacks();
+
+        /**
+         * @return the sampled latencies of intercepted reads; empty if latencies are not sampled.
+         */
+        LatencyHistogram getLatency();
+
+    }
+
+    /**
+     * A histogram of sampled latencies, in power-of-two nanosecond buckets: bucket {@code i} counts the samples taking less than
+     * {@code 2^i} nanoseconds, and at least {@code 2^(i-1)}.
+     */
+    interface LatencyHistogram {
+
+        /**
+         * @return how many samples were taken.
+         */
+        long getCount();
+
+        /**
+         * @return the sample count of every bucket.
+         */
+        long[] getBuckets();
+
+        /**
+         * @return an upper bound of the latency at the given {@code percentile}, between {@code 0} and {@code 100}, or
+         * {@link Duration#ZERO} if no sample was taken.
+         */
+        Duration getPercentile(double percentile);
+
+    }
+
+    /**
+     * The reasons a read falls back to the canonical path.
+     */
+    enum Fallback {
+
+        /**
+         * The decoder was neither rewritten, nor reachable through resolved handles.
+         */
+        NOT_ENHANCED,
+
+        /**
+         * The decoder wraps a non-{@code JSON} decoder, e.g. a binary one.
+         */
+        NOT_JSON
+
+    }
+}
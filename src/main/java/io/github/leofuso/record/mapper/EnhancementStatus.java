@@ -0,0 +1,61 @@
+package io.github.leofuso.record.mapper;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * An EnhancementStatus reports the outcome of the byte code enhancement backing the <i>Enhanced</i> {@link RecordMapper mappers}.
+ * The enhancement is attempted once per JVM, and its outcome is kept for as long as it lives.
+ *
+ * @see RecordMapperFactory#enhancement()
+ */
+public interface EnhancementStatus {
+
+    /**
+     * @return whether the enhanced fast path is active, i.e. the decoders were successfully enhanced.
+     */
+    boolean isActive();
+
+    /**
+     * @return how the decoders were enhanced.
+     */
+    Mode getMode();
+
+    /**
+     * @return how long the enhancement took, including the time spent finding out whether it was already applied.
+     */
+    Duration getElapsed();
+
+    /**
+     * @return the cause preventing the enhancement, if it failed.
+     */
+    Optional<Throwable> getFailure();
+
+    /**
+     * The ways decoders can be enhanced.
+     */
+    enum Mode {
+
+        /**
+         * Not enhanced, as every enhancement failed.
+         */
+        NONE,
+
+        /**
+         * Rebased by ByteBuddy, at runtime.
+         */
+        RUNTIME,
+
+        /**
+         * Already enhanced at build time, and simply loaded.
+         */
+        BUILD_TIME,
+
+        /**
+         * Not rewritten at all: the canonical decoders are reached through private-lookup VarHandles, e.g. when ByteBuddy is
+         * missing from the classpath.
+         */
+        LITE
+
+    }
+}
@@ -1,13 +1,19 @@
 package io.github.leofuso.record.mapper;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 
 import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.Encoder;
 import org.apache.avro.specific.SpecificRecord;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
@@ -15,10 +21,10 @@ import com.fasterxml.jackson.databind.JsonNode;
  * {@link GenericRecord records}, or to and from a general-purpose JSON Tree Model ({@link JsonNode}).
  *
  * <p>
- * Please note that this utility class was designed to be used in a non-production environment. Its main purpose is helping throughout the
- * development cycle.
- * <p>
- * There are no performance guarantees or direct Cache utilizations.
+ * Instances are thread-safe, and meant to be shared. {@link org.apache.avro.io.DatumReader Readers},
+ * {@link org.apache.avro.io.DatumWriter Writers}, and the per-{@link Schema} read plans are cached in least-recently-used caches,
+ * holding up to {@code 512} entries each; a {@link Schema} evicted from those is simply resolved again on its next use. The
+ * transcoders and binary sinks, being stateful, are kept one per thread instead.
  */
 public interface RecordMapper {
 
@@ -29,6 +35,85 @@ public interface RecordMapper {
      */
     ByteBuffer serialize(String json, Schema schema);
 
+    /**
+     * Writes a {@code UTF-8} encoded {@code JSON} into a serialized {@link GenericRecord Record} wrapped in a
+     * {@link ByteBuffer ByteBuffer}.
+     *
+     * @return the resulting {@link ByteBuffer}.
+     */
+    ByteBuffer serialize(byte[] json, Schema schema);
+
+    /**
+     * Writes the remaining bytes of a {@code UTF-8} encoded {@code JSON} into a serialized {@link GenericRecord Record} wrapped in a
+     * {@link ByteBuffer ByteBuffer}. The position of the {@code json} buffer is left untouched.
+     *
+     * @return the resulting {@link ByteBuffer}.
+     */
+    ByteBuffer serialize(ByteBuffer json, Schema schema);
+
+    /**
+     * Writes a {@code JSON} stream into a serialized {@link GenericRecord Record} wrapped in a {@link ByteBuffer ByteBuffer}. The
+     * stream is not closed.
+     *
+     * @return the resulting {@link ByteBuffer}.
+     */
+    ByteBuffer serialize(InputStream json, Schema schema);
+
+    /**
+     * Writes a {@code JSON} stream into a serialized {@link GenericRecord Record} wrapped in a {@link ByteBuffer ByteBuffer}. The
+     * stream is not closed.
+     *
+     * @return the resulting {@link ByteBuffer}.
+     */
+    ByteBuffer serialize(Reader json, Schema schema);
+
+    /**
+     * Writes a {@code JSON} into a serialized {@link GenericRecord Record}, straight into the {@link OutputStream}, e.g. a reusable
+     * buffer. The stream is flushed, but not closed.
+     * <p>
+     * Fields are written as soon as they are read; on failure, the stream may be left holding a partial output.
+     */
+    void serialize(String json, Schema schema, OutputStream out);
+
+    /**
+     * Writes a {@code UTF-8} encoded {@code JSON} into a serialized {@link GenericRecord Record}, straight into the
+     * {@link OutputStream}, e.g. a reusable buffer. The stream is flushed, but not closed.
+     * <p>
+     * Fields are written as soon as they are read; on failure, the stream may be left holding a partial output.
+     */
+    void serialize(byte[] json, Schema schema, OutputStream out);
+
+    /**
+     * Writes a {@code JSON} into a serialized {@link GenericRecord Record}, straight into the {@link ByteBuffer}, from its current
+     * position. The position is advanced past the written bytes, or left untouched on any failure, e.g. not enough room.
+     *
+     * @return the number of written bytes.
+     * @throws AvroMappingException if the {@link ByteBuffer} has not enough room.
+     */
+    int serialize(String json, Schema schema, ByteBuffer out);
+
+    /**
+     * Writes a {@code UTF-8} encoded {@code JSON} into a serialized {@link GenericRecord Record}, straight into the
+     * {@link ByteBuffer}, from its current position. The position is advanced past the written bytes, or left untouched on any
+     * failure, e.g. not enough room.
+     *
+     * @return the number of written bytes.
+     * @throws AvroMappingException if the {@link ByteBuffer} has not enough room.
+     */
+    int serialize(byte[] json, Schema schema, ByteBuffer out);
+
+    /**
+     * Writes a {@code JSON} into a serialized {@link GenericRecord Record}, through the {@link Encoder}, e.g. one reused by means of
+     * {@link org.apache.avro.io.EncoderFactory EncoderFactory}. The encoder is flushed.
+     */
+    void serialize(String json, Schema schema, Encoder encoder);
+
+    /**
+     * Writes a {@code UTF-8} encoded {@code JSON} into a serialized {@link GenericRecord Record}, through the {@link Encoder}, e.g.
+     * one reused by means of {@link org.apache.avro.io.EncoderFactory EncoderFactory}. The encoder is flushed.
+     */
+    void serialize(byte[] json, Schema schema, Encoder encoder);
+
     /**
      * Writes a {@code JSON} into a {@link Schema Schema-compatible} {@link GenericData.Record}.
      *
@@ -36,6 +121,35 @@ public interface RecordMapper {
      */
     GenericData.Record asGenericDataRecord(String json, Schema schema);
 
+    /**
+     * Writes a {@code UTF-8} encoded {@code JSON} into a {@link Schema Schema-compatible} {@link GenericData.Record}.
+     *
+     * @return the resulting {@link GenericData.Record}.
+     */
+    GenericData.Record asGenericDataRecord(byte[] json, Schema schema);
+
+    /**
+     * Writes the remaining bytes of a {@code UTF-8} encoded {@code JSON} into a {@link Schema Schema-compatible}
+     * {@link GenericData.Record}. The position of the {@code json} buffer is left untouched.
+     *
+     * @return the resulting {@link GenericData.Record}.
+     */
+    GenericData.Record asGenericDataRecord(ByteBuffer json, Schema schema);
+
+    /**
+     * Writes a {@code JSON} stream into a {@link Schema Schema-compatible} {@link GenericData.Record}. The stream is not closed.
+     *
+     * @return the resulting {@link GenericData.Record}.
+     */
+    GenericData.Record asGenericDataRecord(InputStream json, Schema schema);
+
+    /**
+     * Writes a {@code JSON} stream into a {@link Schema Schema-compatible} {@link GenericData.Record}. The stream is not closed.
+     *
+     * @return the resulting {@link GenericData.Record}.
+     */
+    GenericData.Record asGenericDataRecord(Reader json, Schema schema);
+
     /**
      * Writes a {@code JSON} into a {@link SpecificRecord type}.
      *
@@ -43,6 +157,42 @@ public interface RecordMapper {
      */
     <T extends SpecificRecord> T asRecord(String json, Class<T> type);
 
+    /**
+     * Writes a {@code UTF-8} encoded {@code JSON} into a {@link SpecificRecord type}.
+     *
+     * @return the resulting {@link SpecificRecord}.
+     */
+    <T extends SpecificRecord> T asRecord(byte[] json, Class<T> type);
+
+    /**
+     * Writes the remaining bytes of a {@code UTF-8} encoded {@code JSON} into a {@link SpecificRecord type}. The position of the
+     * {@code json} buffer is left untouched.
+     *
+     * @return the resulting {@link SpecificRecord}.
+     */
+    <T extends SpecificRecord> T asRecord(ByteBuffer json, Class<T> type);
+
+    /**
+     * Writes a {@code JSON} stream into a {@link SpecificRecord type}. The stream is not closed.
+     *
+     * @return the resulting {@link SpecificRecord}.
+     */
+    <T extends SpecificRecord> T asRecord(InputStream json, Class<T> type);
+
+    /**
+     * Writes a {@code JSON} stream into a {@link SpecificRecord type}. The stream is not closed.
+     *
+     * @return the resulting {@link SpecificRecord}.
+     */
+    <T extends SpecificRecord> T asRecord(Reader json, Class<T> type);
+
+    /**
+     * Produces a {@link BatchMapper} bound to the {@link Schema}, for converting many {@code JSON} documents at once.
+     *
+     * @return the resulting {@link BatchMapper}.
+     */
+    BatchMapper batch(Schema schema);
+
     /**
      * Writes a {@link GenericData.Record} into a {@link JsonNode}.
      *
@@ -57,6 +207,40 @@ public interface RecordMapper {
      */
     <T extends SpecificRecord> JsonNode asJsonNode(T record);
 
+    /**
+     * Writes a {@link GenericData.Record} as {@code UTF-8} encoded {@code JSON}, straight into the {@link OutputStream}. The stream
+     * is flushed, but not closed.
+     */
+    void writeJson(GenericData.Record record, OutputStream out);
+
+    /**
+     * Writes a {@link GenericData.Record} as {@code JSON}, straight into the {@link Writer}. The writer is flushed, but not closed.
+     */
+    void writeJson(GenericData.Record record, Writer out);
+
+    /**
+     * Writes a {@link GenericData.Record} as {@code JSON}, straight into the {@link JsonGenerator}. The generator is flushed, but
+     * not closed.
+     */
+    void writeJson(GenericData.Record record, JsonGenerator generator);
+
+    /**
+     * Writes a {@link SpecificRecord} as {@code UTF-8} encoded {@code JSON}, straight into the {@link OutputStream}. The stream is
+     * flushed, but not closed.
+     */
+    <T extends SpecificRecord> void writeJson(T record, OutputStream out);
+
+    /**
+     * Writes a {@link SpecificRecord} as {@code JSON}, straight into the {@link Writer}. The writer is flushed, but not closed.
+     */
+    <T extends SpecificRecord> void writeJson(T record, Writer out);
+
+    /**
+     * Writes a {@link SpecificRecord} as {@code JSON}, straight into the {@link JsonGenerator}. The generator is flushed, but not
+     * closed.
+     */
+    <T extends SpecificRecord> void writeJson(T record, JsonGenerator generator);
+
     class AvroMappingException extends AvroRuntimeException {
 
         /**
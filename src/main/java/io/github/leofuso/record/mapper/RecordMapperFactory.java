@@ -14,17 +14,37 @@ public interface RecordMapperFactory {
      * @return a {@link RecordMapperFactory factory} capable of producing {@link RecordMapper} instances.
      * <p>
      * If the ByteBuddy dependency is present in the classpath,
-     * a byte bode instrumentation is applied into the {@code JSON} parsing process.
+     * a byte bode instrumentation is applied into the {@code JSON} parsing process. Otherwise, a <i>lite</i> instrumentation,
+     * reaching the decoders through {@link java.lang.invoke.VarHandle VarHandles}, is attempted instead.
      * <p>
      * The instrumentation offers a relaxed-binding for some {@link org.apache.avro.LogicalType LogicalTypes} conversions.
      */
     static RecordMapperFactory get() {
-        try {
-            Class.forName("net.bytebuddy.ByteBuddy");
+        if (EnhancedRecordMapperFactory.isAvailable()) {
             return new EnhancedRecordMapperFactory();
-        } catch (ClassNotFoundException ignored) {
-            return new DefaultRecordMapperFactory();
         }
+        return new DefaultRecordMapperFactory();
+    }
+
+    /**
+     * @return the {@link EnhancementStatus status} of the instrumentation, including which {@link EnhancementStatus.Mode mode} is
+     * active, applying it if it was never attempted before. The instrumentation is applied once per JVM, and mappers produced
+     * afterwards share it at no cost.
+     */
+    static EnhancementStatus enhancement() {
+        return EnhancedRecordMapperFactory.enhancement();
+    }
+
+    /**
+     * @return a snapshot of the {@link EnhancementMetrics metrics} of every <i>Enhanced</i> read performed so far, in this JVM.
+     * <p>
+     * Reads going through {@link org.apache.avro.generic.EnhancedGenericDatumReader Enhanced Readers}, e.g. those of any
+     * {@link RecordReaderFactory} Reader used directly, are counted per interceptor. The {@link RecordMapper} conversions bind relaxed
+     * values on their own, straight from the {@code JSON} tokens, and are counted under the {@code [streaming]} interceptors, e.g.
+     * {@code EnhancedReadLong[streaming]}.
+     */
+    static EnhancementMetrics metrics() {
+        return EnhancedRecordMapperFactory.metrics();
     }
 
     /**
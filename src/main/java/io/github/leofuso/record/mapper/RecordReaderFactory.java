@@ -10,6 +10,8 @@ import org.apache.avro.specific.SpecificRecord;
 /**
  * A RecordReaderFactory has the capability to instantiate {@link DatumReader Readers} that can be used to read from
  * {@link org.apache.avro.generic.GenericRecord records} or {@code JSON}-compatible objects.
+ * <p>
+ * Produced Readers may be cached and shared between callers, and must not be reconfigured, e.g. by calling {@code setSchema}.
  */
 public interface RecordReaderFactory {
 
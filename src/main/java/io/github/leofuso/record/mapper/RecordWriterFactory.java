@@ -10,6 +10,8 @@ import org.apache.avro.specific.SpecificRecord;
 /**
  * A RecordWriterFactory has the capability to instantiate {@link DatumWriter Writers} that can be used to write to
  * {@link org.apache.avro.generic.GenericRecord records} or {@code JSON}-compatible objects.
+ * <p>
+ * Produced Writers may be cached and shared between callers, and must not be reconfigured, e.g. by calling {@code setSchema}.
  */
 public interface RecordWriterFactory {
 
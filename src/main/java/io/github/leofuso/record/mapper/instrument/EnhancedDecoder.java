@@ -0,0 +1,34 @@
+package io.github.leofuso.record.mapper.instrument;
+
+import java.io.IOException;
+
+/**
+ * The enhanced, relaxed, read methods a rewritten {@link org.apache.avro.io.ResolvingDecoder ResolvingDecoder} exposes. Every call is
+ * delegated to the {@link InterceptorDispatcher}.
+ * <p>
+ * Readers call these directly, falling back to the canonical read methods if the decoder was not rewritten.
+ */
+public interface EnhancedDecoder {
+
+    /**
+     * Reads an expected Byte Array value, accepting numbers as well.
+     *
+     * @return either a {@link java.nio.ByteBuffer ByteBuffer}, a {@link Double}, an {@link Integer} or {@code null}.
+     */
+    Object readEnhancedBytes() throws IOException;
+
+    /**
+     * Reads an expected Long value, accepting CharSequences as well.
+     *
+     * @return either a {@link Long}, an {@link Integer}, a {@link String} or {@code null}.
+     */
+    Object readEnhancedLong() throws IOException;
+
+    /**
+     * Reads an expected Integer value, accepting CharSequences as well.
+     *
+     * @return either an {@link Integer}, a {@link String} or {@code null}.
+     */
+    Object readEnhancedInt() throws IOException;
+
+}
@@ -0,0 +1,72 @@
+package io.github.leofuso.record.mapper.instrument;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import io.github.leofuso.record.mapper.EnhancementStatus;
+
+/**
+ * The immutable {@link EnhancementStatus}.
+ */
+public final class EnhancementOutcome implements EnhancementStatus {
+
+    private static final EnhancementOutcome NONE = new EnhancementOutcome(Mode.NONE, Duration.ZERO, null);
+
+    private final Mode mode;
+    private final Duration elapsed;
+    private final Throwable failure;
+
+    private EnhancementOutcome(final Mode mode, final Duration elapsed, final Throwable failure) {
+        this.mode = Objects.requireNonNull(mode, Mode.class.getSimpleName() + " [mode] is required.");
+        this.elapsed = Objects.requireNonNull(elapsed, Duration.class.getSimpleName() + " [elapsed] is required.");
+        this.failure = failure;
+    }
+
+    /**
+     * @return the outcome of an enhancement never attempted.
+     */
+    public static EnhancementOutcome none() {
+        return NONE;
+    }
+
+    /**
+     * @return the outcome of an enhancement applied in the given {@code mode}.
+     */
+    public static EnhancementOutcome applied(final Mode mode, final Duration elapsed) {
+        return new EnhancementOutcome(mode, elapsed, null);
+    }
+
+    /**
+     * @return the outcome of an enhancement prevented by the {@code failure}.
+     */
+    public static EnhancementOutcome failed(final Duration elapsed, final Throwable failure) {
+        Objects.requireNonNull(failure, Throwable.class.getSimpleName() + " [failure] is required.");
+        return new EnhancementOutcome(Mode.NONE, elapsed, failure);
+    }
+
+    @Override
+    public boolean isActive() {
+        return mode != Mode.NONE;
+    }
+
+    @Override
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public String toString() {
+        return "EnhancementOutcome{mode=" + mode + ", elapsed=" + elapsed + ", failure=" + failure + '}';
+    }
+}
@@ -1,6 +1,6 @@
 package io.github.leofuso.record.mapper.instrument;
 
-import java.lang.reflect.Method;
+import java.io.IOException;
 
 import io.github.leofuso.record.mapper.instrument.interceptor.EnhancedReadInt;
 import io.github.leofuso.record.mapper.instrument.interceptor.EnhancedReadLong;
@@ -9,51 +9,61 @@ import org.apache.avro.io.ResolvingDecoder;
 
 import io.github.leofuso.record.mapper.instrument.interceptor.EnhancedReadBytes;
 
-import net.bytebuddy.implementation.bind.annotation.AllArguments;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
-
 /**
- * A static interceptor that dispatches method calls to the right interceptor.
+ * A static interceptor that dispatches method calls to the right interceptor. Every rewritten method is bound straight to its own
+ * entry point, named after it.
  */
 public class InterceptorDispatcher {
 
     /**
      * An additional method name proving an enhanced parser for expected Byte Array values
+     *
+     * @see EnhancedDecoder#readEnhancedBytes()
      */
-    public static final String READ_BYTES_REWRITE = "$$__readBytes__rewrite__$$";
+    public static final String READ_BYTES_REWRITE = "readEnhancedBytes";
 
     /**
      * An additional method name proving an enhanced parser for expected Long values
+     *
+     * @see EnhancedDecoder#readEnhancedLong()
      */
-    public static final String READ_LONG_REWRITE = "$$__readLong__rewrite__$$";
+    public static final String READ_LONG_REWRITE = "readEnhancedLong";
 
     /**
      * An additional method name proving an enhanced parser for expected Integer values
+     *
+     * @see EnhancedDecoder#readEnhancedInt()
+     */
+    public static final String READ_INT_REWRITE = "readEnhancedInt";
+
+
+    /**
+     * Intercepts a call to {@link EnhancedDecoder#readEnhancedInt()}.
+     *
+     * @param self The proxied instance.
+     * @return The intercepted method's return value.
      */
-    public static final String READ_INT_REWRITE = "$$__readInt__rewrite__$$";
+    public static Object readEnhancedInt(final ResolvingDecoder self) throws IOException {
+        return EnhancedReadInt.INSTANCE.apply(self);
+    }
 
+    /**
+     * Intercepts a call to {@link EnhancedDecoder#readEnhancedLong()}.
+     *
+     * @param self The proxied instance.
+     * @return The intercepted method's return value.
+     */
+    public static Object readEnhancedLong(final ResolvingDecoder self) throws IOException {
+        return EnhancedReadLong.INSTANCE.apply(self);
+    }
 
     /**
-     * Intercepts a method call to a proxy.
+     * Intercepts a call to {@link EnhancedDecoder#readEnhancedBytes()}.
      *
-     * @param invoked   The invoked method.
-     * @param self      The proxied instance.
-     * @param arguments The method arguments.
+     * @param self The proxied instance.
      * @return The intercepted method's return value.
      */
-    @RuntimeType
-    @SuppressWarnings("unused")
-    public static Object dispatch(@Origin Method invoked,
-                                  @This ResolvingDecoder self,
-                                  @AllArguments final Object[] arguments) {
-        final String methodName = invoked.getName();
-        return switch (methodName) {
-            case READ_INT_REWRITE -> Interceptor.intercept(EnhancedReadInt.class, self, arguments);
-            case READ_LONG_REWRITE -> Interceptor.intercept(EnhancedReadLong.class, self, arguments);
-            case READ_BYTES_REWRITE -> Interceptor.intercept(EnhancedReadBytes.class, self, arguments);
-            default -> throw new UnsupportedOperationException("Unexpected call on an unknown method.");
-        };
+    public static Object readEnhancedBytes(final ResolvingDecoder self) throws IOException {
+        return EnhancedReadBytes.INSTANCE.apply(self);
     }
 }
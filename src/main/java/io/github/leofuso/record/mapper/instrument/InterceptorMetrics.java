@@ -0,0 +1,173 @@
+package io.github.leofuso.record.mapper.instrument;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.leofuso.record.mapper.EnhancementMetrics;
+import io.github.leofuso.record.mapper.EnhancementMetrics.Fallback;
+
+/**
+ * The live counters of a single {@link Interceptor}, striped as {@link LongAdder LongAdders} so that concurrent reads never
+ * contend on them. Every instance is registered once, by name, and reported by {@link #snapshot()}.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class InterceptorMetrics {
+
+    /**
+     * One in how many intercepted reads are timed; {@code 0} disables the sampling altogether.
+     */
+    public static final int LATENCY_SAMPLE_RATE = Math.max(0, Integer.getInteger("record-mapper.metrics.latency-sample-rate", 0));
+
+    private static final int BUCKETS = Long.SIZE;
+    private static final Fallback[] FALLBACKS = Fallback.values();
+
+    private static final Map<String, InterceptorMetrics> registry = new ConcurrentHashMap<>();
+
+    private final LongAdder intercepted = new LongAdder();
+    private final LongAdder[] fallbacks = adders(FALLBACKS.length);
+    private final LongAdder[] latencies = LATENCY_SAMPLE_RATE > 0 ? adders(BUCKETS) : new LongAdder[0];
+
+    private InterceptorMetrics() {}
+
+    /**
+     * @return the counters registered under the {@code name}, registering them if needed.
+     */
+    public static InterceptorMetrics register(final String name) {
+        Objects.requireNonNull(name, String.class.getSimpleName() + " [name] is required.");
+        return registry.computeIfAbsent(name, key -> new InterceptorMetrics());
+    }
+
+    /**
+     * @return a snapshot of every registered counter, sorted by name.
+     */
+    public static EnhancementMetrics snapshot() {
+        final Map<String, EnhancementMetrics.Counters> interceptors = new LinkedHashMap<>();
+        registry.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> interceptors.put(entry.getKey(), entry.getValue().counters()));
+        return new Snapshot(LATENCY_SAMPLE_RATE, Collections.unmodifiableMap(interceptors));
+    }
+
+    /**
+     * Counts a read taking the relaxed path.
+     */
+    public void intercepted() {
+        intercepted.increment();
+    }
+
+    /**
+     * Counts a read falling back to the canonical path.
+     */
+    public void fallback(final Fallback reason) {
+        fallbacks[reason.ordinal()].increment();
+    }
+
+    /**
+     * @return whether the current read should be timed.
+     */
+    public boolean sample() {
+        return LATENCY_SAMPLE_RATE > 0 && ThreadLocalRandom.current().nextInt(LATENCY_SAMPLE_RATE) == 0;
+    }
+
+    /**
+     * Records the latency of a sampled read.
+     */
+    public void latency(final long nanos) {
+        final int bucket = Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+        latencies[bucket].increment();
+    }
+
+    private EnhancementMetrics.Counters counters() {
+        final Map<Fallback, Long> fallbackCounts = new EnumMap<>(Fallback.class);
+        for (final Fallback reason : FALLBACKS) {
+            fallbackCounts.put(reason, fallbacks[reason.ordinal()].sum());
+        }
+        final long[] buckets = new long[latencies.length];
+        for (int i = 0; i < latencies.length; i++) {
+            buckets[i] = latencies[i].sum();
+        }
+        return new Counters(intercepted.sum(), Collections.unmodifiableMap(fallbackCounts), new Histogram(buckets));
+    }
+
+    private static LongAdder[] adders(final int size) {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private record Snapshot(int latencySampleRate, Map<String, EnhancementMetrics.Counters> interceptors) implements EnhancementMetrics {
+
+        @Override
+        public int getLatencySampleRate() {
+            return latencySampleRate;
+        }
+
+        @Override
+        public Map<String, EnhancementMetrics.Counters> getInterceptors() {
+            return interceptors;
+        }
+    }
+
+    private record Counters(long intercepted, Map<Fallback, Long> fallbacks, Histogram latency) implements EnhancementMetrics.Counters {
+
+        @Override
+        public long getIntercepted() {
+            return intercepted;
+        }
+
+        @Override
+        public Map<Fallback, Long> getFallbacks() {
+            return fallbacks;
+        }
+
+        @Override
+        public EnhancementMetrics.LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+
+    private record Histogram(long[] buckets) implements EnhancementMetrics.LatencyHistogram {
+
+        @Override
+        public long getCount() {
+            long count = 0;
+            for (final long bucket : buckets) {
+                count += bucket;
+            }
+            return count;
+        }
+
+        @Override
+        public long[] getBuckets() {
+            return buckets.clone();
+        }
+
+        @Override
+        public Duration getPercentile(final double percentile) {
+            final long count = getCount();
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+            final long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, rank)) {
+                    return Duration.ofNanos(i >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << i);
+                }
+            }
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+    }
+}
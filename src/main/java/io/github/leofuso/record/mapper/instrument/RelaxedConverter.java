@@ -0,0 +1,113 @@
+package io.github.leofuso.record.mapper.instrument;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversion;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+
+/**
+ * Converts a read datum into its logical representation, as resolved for a single {@link Schema} node.
+ * <p>
+ * Shared by every reader binding relaxed values, i.e. the {@link org.apache.avro.generic.EnhancedGenericDatumReader Enhanced Readers}
+ * and the {@code JSON} walkers of the <i>Enhanced</i> mappers: the relaxed {@code bytes}, {@code int} and {@code long} values, as
+ * returned by the {@link EnhancedDecoder}, are told apart by type on every conversion.
+ */
+@FunctionalInterface
+public interface RelaxedConverter {
+
+    RelaxedConverter NONE = datum -> datum;
+
+    /**
+     * @return the datum in its logical representation, or {@code null}, if the {@code datum} is {@code null}.
+     *
+     * @throws AvroRuntimeException if the datum is not of the expected generic type, or an {@link AvroTypeException} if the
+     *                              {@link Conversion} fails to convert it.
+     */
+    Object convert(Object datum);
+
+    /**
+     * Resolves which {@code fromX} method of the {@link Conversion} applies to the {@code schema}, leaving only the relaxed
+     * {@code bytes}, {@code int} and {@code long} values to be told apart by type on every read.
+     *
+     * @return the {@link RelaxedConverter} for the {@code schema}, or {@link #NONE} if it has no {@link LogicalType}, or no
+     * {@link Conversion} was provided.
+     */
+    static RelaxedConverter of(final Schema schema, final Conversion<?> conversion) {
+        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        final LogicalType type = schema.getLogicalType();
+        if (type == null || conversion == null) {
+            return NONE;
+        }
+
+        final Schema.Type expectedType = schema.getType();
+        final RelaxedConverter converter = switch (expectedType) {
+            case RECORD -> datum -> conversion.fromRecord((IndexedRecord) datum, schema, type);
+            case ENUM -> datum -> conversion.fromEnumSymbol((GenericEnumSymbol<?>) datum, schema, type);
+            case ARRAY -> datum -> conversion.fromArray((Collection<?>) datum, schema, type);
+            case MAP -> datum -> conversion.fromMap((Map<?, ?>) datum, schema, type);
+            case FIXED -> datum -> conversion.fromFixed((GenericFixed) datum, schema, type);
+            case STRING -> datum -> conversion.fromCharSequence((CharSequence) datum, schema, type);
+            case BYTES -> datum -> {
+                if (datum instanceof ByteBuffer value) {
+                    return conversion.fromBytes(value, schema, type);
+                }
+                if (datum instanceof Double value) {
+                    return conversion.fromDouble(value, schema, type);
+                }
+                if (datum instanceof Integer value) {
+                    return conversion.fromInt(value, schema, type);
+                }
+                return datum;
+            };
+            case INT -> datum -> {
+                if (datum instanceof Integer value) {
+                    return conversion.fromInt(value, schema, type);
+                }
+                if (datum instanceof CharSequence value) {
+                    return conversion.fromCharSequence(value, schema, type);
+                }
+                return datum;
+            };
+            case LONG -> datum -> {
+                if (datum instanceof Long value) {
+                    return conversion.fromLong(value, schema, type);
+                }
+                if (datum instanceof CharSequence value) {
+                    return conversion.fromCharSequence(value, schema, type);
+                }
+                return datum;
+            };
+            case FLOAT -> datum -> conversion.fromFloat((Float) datum, schema, type);
+            case DOUBLE -> datum -> conversion.fromDouble((Double) datum, schema, type);
+            case BOOLEAN -> datum -> conversion.fromBoolean((Boolean) datum, schema, type);
+            default -> NONE;
+        };
+        return converter == NONE ? converter : datum -> {
+            if (datum == null) {
+                return null;
+            }
+            try {
+                return converter.convert(datum);
+            } catch (final ClassCastException e) {
+                final Class<?> objectClass = datum.getClass();
+                final String objectClassName = objectClass.getSimpleName();
+                final String exceptionMessage = "Cannot convert %s:%s: expected generic type".formatted(objectClass, objectClassName);
+                throw new AvroRuntimeException(exceptionMessage, e);
+            } catch (final AvroRuntimeException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                final String message = "Unable to convert value [%s] into logical type [%s].";
+                throw new AvroTypeException(message.formatted(datum, type.getName()), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.leofuso.record.mapper.instrument.bytecode;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Applies the {@link LogicalTypeConversionEnhancement} at build time, writing the enhanced decoders as class files into the
+ * folder given as its only argument. Having those ahead of Avro in the classpath spares any runtime rebasing.
+ * <p>
+ * Used by the {@code enhanceClasses} Gradle task.
+ */
+public final class BuildTimeEnhancement {
+
+    private BuildTimeEnhancement() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the output folder as the only argument.");
+        }
+        final File folder = new File(args[0]);
+        LogicalTypeConversionEnhancement.save(folder);
+    }
+}
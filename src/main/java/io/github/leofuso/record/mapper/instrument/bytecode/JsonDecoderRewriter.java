@@ -25,8 +25,16 @@ public class JsonDecoderRewriter implements Function<ByteBuddy, DynamicType.Load
 
     @Override
     public DynamicType.Loaded<?> apply(final ByteBuddy byteBuddy) {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        return make(byteBuddy, classLoader)
+                .load(classLoader, ClassLoadingStrategy.Default.INJECTION);
+    }
+
+    /**
+     * Produces the rewritten type, without loading it, e.g. to be saved at build time.
+     */
+    public DynamicType.Unloaded<?> make(final ByteBuddy byteBuddy, final ClassLoader classLoader) {
 
-        final ClassLoader classLoader = ClassLoader.getSystemClassLoader();
         final ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of(classLoader);
         final TypePool typePool = TypePool.Default.of(classFileLocator);
 
@@ -50,7 +58,6 @@ public class JsonDecoderRewriter implements Function<ByteBuddy, DynamicType.Load
                                 )
                                 .withAllArguments()
                 )
-                .make()
-                .load(classLoader, ClassLoadingStrategy.Default.INJECTION);
+                .make();
     }
 }
@@ -1,27 +1,171 @@
 package io.github.leofuso.record.mapper.instrument.bytecode;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
 import java.util.function.Function;
 
+import io.github.leofuso.record.mapper.EnhancementStatus;
+import io.github.leofuso.record.mapper.instrument.EnhancedDecoder;
+import io.github.leofuso.record.mapper.instrument.EnhancementOutcome;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.DecoderAccessor;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.JsonParserAccessor;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParserAccessor;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParsingAdvancer;
+
+import org.apache.avro.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.pool.TypePool;
 
-public class LogicalTypeConversionEnhancement implements Runnable, Function<ByteBuddy, Void> {
+public class LogicalTypeConversionEnhancement implements Runnable, Function<ByteBuddy, EnhancementStatus> {
 
     private static final Logger logger = LoggerFactory.getLogger(LogicalTypeConversionEnhancement.class);
 
-    public static void enhance() {
-        logger.trace("Applying LogicalType conversion enhancement using byte code rewriter...");
-        final LogicalTypeConversionEnhancement rewriter = new LogicalTypeConversionEnhancement();
-        rewriter.run();
+    /**
+     * Written alongside the enhanced decoders, at build time, recording the Avro version they were rebased from.
+     */
+    public static final String MARKER = "META-INF/record-mapper/enhanced-classes.properties";
+    private static final String AVRO_VERSION = "avro.version";
+
+    private static final Object lock = new Object();
+    private static volatile EnhancementStatus outcome;
+
+    /**
+     * Applies the enhancement, once per JVM; any later call returns the outcome of the first one, be it a success or a failure.
+     *
+     * @return the {@link EnhancementStatus outcome} of the enhancement.
+     */
+    public static EnhancementStatus enhance() {
+        EnhancementStatus status = outcome;
+        if (status == null) {
+            synchronized (lock) {
+                status = outcome;
+                if (status == null) {
+                    logger.trace("Applying LogicalType conversion enhancement using byte code rewriter...");
+                    status = new LogicalTypeConversionEnhancement().apply(byteBuddy());
+                    outcome = status;
+                }
+            }
+        }
+        return status;
+    }
+
+    /**
+     * @return the {@link EnhancementStatus outcome} of the enhancement, without attempting it, if it was never attempted.
+     */
+    public static EnhancementStatus status() {
+        final EnhancementStatus status = outcome;
+        return status == null ? EnhancementOutcome.none() : status;
+    }
+
+    /**
+     * Checks, without loading them, whether the decoders visible to this class were already enhanced at build time, e.g. by
+     * having the {@code enhanced-classes} artifact ahead of Avro in the classpath. Their Avro version is only verified once the
+     * enhancement is applied.
+     */
+    public static boolean isPrebuilt() {
+        final ClassLoader classLoader = LogicalTypeConversionEnhancement.class.getClassLoader();
+        final TypePool typePool = TypePool.Default.of(ClassFileLocator.ForClassLoader.of(classLoader));
+        final TypeDescription jsonDecoder = typePool.describe("org.apache.avro.io.JsonDecoder").resolve();
+        final TypeDescription resolvingDecoder = typePool.describe("org.apache.avro.io.ResolvingDecoder").resolve();
+        return isCapable(jsonDecoder, resolvingDecoder);
     }
 
+    /**
+     * Checks, once, that the enhanced decoders expose every accessor the interceptors rely on.
+     */
+    private static boolean isCapable(final TypeDescription jsonDecoder, final TypeDescription resolvingDecoder) {
+        return jsonDecoder.isAssignableTo(JsonParserAccessor.class)
+                && jsonDecoder.isAssignableTo(ParsingAdvancer.class)
+                && resolvingDecoder.isAssignableTo(ParserAccessor.class)
+                && resolvingDecoder.isAssignableTo(DecoderAccessor.class)
+                && resolvingDecoder.isAssignableTo(EnhancedDecoder.class);
+    }
+
+    /**
+     * Writes the enhanced decoders, as class files, into the {@code folder}, to be placed ahead of Avro in the classpath.
+     */
+    public static void save(final File folder) throws IOException {
+        final ByteBuddy byteBuddy = byteBuddy();
+        final ClassLoader classLoader = LogicalTypeConversionEnhancement.class.getClassLoader();
+        new JsonDecoderRewriter().make(byteBuddy, classLoader).saveIn(folder);
+        new ResolvingDecoderRewriter().make(byteBuddy, classLoader).saveIn(folder);
+
+        final String avroVersion = avroVersion();
+        if (avroVersion == null) {
+            throw new IllegalStateException("Unable to tell the Avro version the decoders were rebased from.");
+        }
+        final Path marker = folder.toPath().resolve(MARKER);
+        Files.createDirectories(marker.getParent());
+        Files.writeString(marker, AVRO_VERSION + "=" + avroVersion + System.lineSeparator(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Checks that the decoders enhanced at build time were rebased from the Avro version present in the classpath, as they shadow
+     * the ones of any other version, silently mixing both.
+     *
+     * @return a description of the mismatch, or {@code null} if both versions match, or the present one is unknown.
+     */
+    private static String prebuiltMismatch(final ClassLoader classLoader) {
+        final Properties marker = new Properties();
+        try (InputStream in = classLoader.getResourceAsStream(MARKER)) {
+            if (in == null) {
+                return "Enhanced decoders carry no Avro version; rebuild them with the enhanceClasses task.";
+            }
+            marker.load(in);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final String built = marker.getProperty(AVRO_VERSION);
+        final String present = avroVersion();
+        if (present == null || present.equals(built)) {
+            return null;
+        }
+        return "Enhanced decoders were rebased from Avro %s, but Avro %s is present.".formatted(built, present);
+    }
+
+    /**
+     * @return the version of the Avro present in the classpath, or {@code null} if its manifest doesn't tell.
+     */
+    private static String avroVersion() {
+        return Schema.class.getPackage().getImplementationVersion();
+    }
+
+    /**
+     * Applies the enhancement, regardless of any previous attempt; prefer {@link #enhance()}.
+     */
     @Override
-    public Void apply(final ByteBuddy byteBuddy) {
+    public EnhancementStatus apply(final ByteBuddy byteBuddy) {
+
+        final long start = System.nanoTime();
+        try {
+            if (isPrebuilt()) {
+                final String mismatch = prebuiltMismatch(LogicalTypeConversionEnhancement.class.getClassLoader());
+                if (mismatch != null) {
+                    logger.warn(mismatch);
+                    return EnhancementOutcome.failed(elapsedSince(start), new IllegalStateException(mismatch));
+                }
+                logger.trace("Enhancement already applied at build time, skipping byte code rewriter.");
+                return EnhancementOutcome.applied(EnhancementStatus.Mode.BUILD_TIME, elapsedSince(start));
+            }
+        } catch (final RuntimeException e) {
+            logger.error("Unable to apply byte code enhancement.", e);
+            return EnhancementOutcome.failed(elapsedSince(start), e);
+        }
 
         final JsonDecoderRewriter jsonDecoderRewriter = new JsonDecoderRewriter();
         final ResolvingDecoderRewriter resolvingDecoderRewriter = new ResolvingDecoderRewriter();
@@ -39,19 +183,29 @@ public class LogicalTypeConversionEnhancement implements Runnable, Function<Byte
             final String resolvingDecoderName = resolvingDecoderTypeDescription.getName();
             logger.trace("Enhancement successfully applied to [{}]", resolvingDecoderName);
 
-            return null;
+            if (!isCapable(jsonDecoderTypeDescription, resolvingDecoderTypeDescription)) {
+                throw new IllegalStateException("Enhanced decoders are missing accessors; reads will not be intercepted.");
+            }
+
+            return EnhancementOutcome.applied(EnhancementStatus.Mode.RUNTIME, elapsedSince(start));
 
         } catch (final Exception e) {
-            logger.error("Unnable to apply byte code enhancement.", e);
-            return null;
+            logger.error("Unable to apply byte code enhancement.", e);
+            return EnhancementOutcome.failed(elapsedSince(start), e);
         }
     }
 
     @Override
     public void run() {
+        enhance();
+    }
+
+    private static Duration elapsedSince(final long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static ByteBuddy byteBuddy() {
         final MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.forJVMHierarchy();
-        final ByteBuddy byteBuddy = new ByteBuddy().with(compiler);
-        new LogicalTypeConversionEnhancement()
-                .apply(byteBuddy);
+        return new ByteBuddy().with(compiler);
     }
 }
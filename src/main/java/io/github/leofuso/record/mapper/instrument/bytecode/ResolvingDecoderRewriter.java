@@ -2,29 +2,40 @@ package io.github.leofuso.record.mapper.instrument.bytecode;
 
 import java.util.function.Function;
 
+import io.github.leofuso.record.mapper.instrument.EnhancedDecoder;
 import io.github.leofuso.record.mapper.instrument.interceptor.accessors.DecoderAccessor;
 import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParserAccessor;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.FieldAccessor;
-import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.pool.TypePool;
 
 import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.READ_BYTES_REWRITE;
 import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.READ_INT_REWRITE;
 import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.READ_LONG_REWRITE;
+import static net.bytebuddy.matcher.ElementMatchers.isStatic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
 
 public class ResolvingDecoderRewriter implements Function<ByteBuddy, DynamicType.Loaded<?>> {
 
     @Override
     public DynamicType.Loaded<?> apply(final ByteBuddy byteBuddy) {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        return make(byteBuddy, classLoader)
+                .load(classLoader, ClassLoadingStrategy.Default.INJECTION);
+    }
+
+    /**
+     * Produces the rewritten type, without loading it, e.g. to be saved at build time.
+     */
+    public DynamicType.Unloaded<?> make(final ByteBuddy byteBuddy, final ClassLoader classLoader) {
 
-        final ClassLoader classLoader = ClassLoader.getSystemClassLoader();
         final ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of(classLoader);
         final TypePool typePool = TypePool.Default.of(classFileLocator);
 
@@ -55,14 +66,26 @@ public class ResolvingDecoderRewriter implements Function<ByteBuddy, DynamicType
                         FieldAccessor.ofField("in")
                                 .in(validatingDecoderType)
                 )
-                .defineMethod(READ_BYTES_REWRITE, Object.class, Visibility.PUBLIC)
-                .intercept(MethodDelegation.to(dispatcherType))
-                .defineMethod(READ_LONG_REWRITE, Object.class, Visibility.PUBLIC)
-                .intercept(MethodDelegation.to(dispatcherType))
-                .defineMethod(READ_INT_REWRITE, Object.class, Visibility.PUBLIC)
-                .intercept(MethodDelegation.to(dispatcherType))
-                .make()
-                .load(classLoader, ClassLoadingStrategy.Default.INJECTION);
+                .implement(EnhancedDecoder.class)
+                .method(named(READ_INT_REWRITE))
+                .intercept(dispatchTo(dispatcherType, READ_INT_REWRITE))
+                .method(named(READ_LONG_REWRITE))
+                .intercept(dispatchTo(dispatcherType, READ_LONG_REWRITE))
+                .method(named(READ_BYTES_REWRITE))
+                .intercept(dispatchTo(dispatcherType, READ_BYTES_REWRITE))
+                .make();
     }
 
+    /**
+     * Binds a rewritten method straight to its static entry point, with the same name, passing the proxied instance along.
+     */
+    private static MethodCall dispatchTo(final TypeDescription dispatcherType, final String name) {
+        final MethodDescription target =
+                dispatcherType.getDeclaredMethods()
+                        .filter(named(name).and(isStatic()))
+                        .getOnly();
+
+        return MethodCall.invoke(target)
+                .withThis();
+    }
 }
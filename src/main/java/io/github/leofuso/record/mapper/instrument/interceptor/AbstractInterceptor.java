@@ -1,94 +1,75 @@
 package io.github.leofuso.record.mapper.instrument.interceptor;
 
-import javax.annotation.Nullable;
-
-import java.lang.reflect.UndeclaredThrowableException;
+import java.io.IOException;
 import java.util.Objects;
-import java.util.concurrent.Callable;
 
 import io.github.leofuso.record.mapper.exception.Throwables;
 import io.github.leofuso.record.mapper.instrument.Interceptor;
-import io.github.leofuso.record.mapper.instrument.interceptor.accessors.DecoderAccessor;
-import io.github.leofuso.record.mapper.instrument.interceptor.accessors.JsonParserAccessor;
-import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParserAccessor;
-import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParsingAdvancer;
+import io.github.leofuso.record.mapper.instrument.InterceptorMetrics;
 
 import org.apache.avro.io.JsonDecoder;
 import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.io.parsing.Parser;
 import org.apache.avro.io.parsing.Symbol;
 
 import com.fasterxml.jackson.core.JsonParser;
 
-public abstract class AbstractInterceptor<R> implements Interceptor {
+/**
+ * Base for stateless {@link Interceptor interceptors}, shared between every {@link ResolvingDecoder} reached through the same
+ * {@link DecoderAccess}.
+ */
+public abstract class AbstractInterceptor implements Interceptor {
 
-    private final Callable<R> invoked;
-    private final ResolvingDecoder self;
+    private final DecoderAccess access;
+    private final InterceptorMetrics metrics;
 
-    protected AbstractInterceptor(final ResolvingDecoder self, final Callable<R> invoked) {
-        this.invoked = Objects.requireNonNull(invoked, "Callable<T> [invoked] is required.");
-        this.self = Objects.requireNonNull(self, "ResolvingDecoder [self] is required.");
+    protected AbstractInterceptor(final DecoderAccess access) {
+        this.access = Objects.requireNonNull(access, DecoderAccess.class.getSimpleName() + " [access] is required.");
+        this.metrics = InterceptorMetrics.register(getClass().getSimpleName() + "[" + access.name() + "]");
     }
 
+    /**
+     * Intercepts the call if the {@link DecoderAccess} supports the {@code self} decoder; otherwise, invokes the canonical method
+     * straight away. Either way, no exception is built to find it out, and the outcome is counted in the {@link InterceptorMetrics}.
+     */
     @Override
-    public Object apply(@Nullable Object[] arguments) {
+    public Object apply(final ResolvingDecoder self) throws IOException {
         try {
-            return intercept(arguments);
-        } catch (final UndeclaredThrowableException e) {
-            logger.error("Unhandled exception invokating enhanced method.", e);
-            final Callable<?> invoked = invoked();
-            final NoopInterceptor<?> noop = new NoopInterceptor<>(invoked);
-            return noop.apply(arguments);
+            if (!access.supports(self)) {
+                metrics.fallback(access.fallback(self));
+                return invoke(self);
+            }
+            metrics.intercepted();
+            if (metrics.sample()) {
+                final long start = System.nanoTime();
+                try {
+                    return intercept(self);
+                } finally {
+                    metrics.latency(System.nanoTime() - start);
+                }
+            }
+            return intercept(self);
+        } catch (final IOException | RuntimeException | Error e) {
+            throw e;
         } catch (final Throwable e) {
             Throwables.rethrowRuntimeException(e);
             return null; /* Unreachable code */
         }
     }
 
-    @Override
-    public ResolvingDecoder self() {
-        return self;
-    }
-
-    @Override
-    public Callable<?> invoked() {
-        return invoked;
+    protected void advance(final ResolvingDecoder self, final Symbol symbol) throws IOException {
+        access.advance(self, symbol);
     }
 
-    protected void advance(final Symbol symbol) {
-        final JsonDecoder in = in();
-        if (in instanceof ParsingAdvancer advancer) {
-            advancer.doAdvance(symbol);
-        }
+    protected Parser parser(final ResolvingDecoder self) {
+        return access.parser(self);
     }
 
-    @Override
-    @SuppressWarnings("unchecked")
-    public <P> P parser(Class<P> parser) {
-        if (JsonParser.class == parser) {
-            if (in() instanceof JsonParserAccessor accessor) {
-                return (P) accessor.accessJsonParser();
-            }
-            throw new UndeclaredThrowableException(
-                    new IllegalStateException("JsonDecoder is not compatible with JsonParserAccessor type.")
-            );
-        } else {
-            if (self() instanceof ParserAccessor accessor) {
-                return (P) accessor.accessParser();
-            }
-            throw new UndeclaredThrowableException(
-                    new IllegalStateException("ResolvingDecoder is not compatible with ParserAccessor type.")
-            );
-        }
+    protected JsonParser jsonParser(final ResolvingDecoder self) {
+        return access.jsonParser(self);
     }
 
-    @Override
-    public JsonDecoder in() {
-        final ResolvingDecoder self = self();
-        if (self instanceof DecoderAccessor accessor) {
-            return accessor.accessDecoder();
-        }
-        throw new UndeclaredThrowableException(
-                new IllegalStateException("ResolvingDecoder is not compatible with DecoderAccessor type.")
-        );
+    protected JsonDecoder in(final ResolvingDecoder self) {
+        return access.in(self);
     }
 }
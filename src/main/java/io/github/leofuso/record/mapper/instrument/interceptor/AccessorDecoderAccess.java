@@ -0,0 +1,66 @@
+package io.github.leofuso.record.mapper.instrument.interceptor;
+
+import io.github.leofuso.record.mapper.EnhancementMetrics.Fallback;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.DecoderAccessor;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.JsonParserAccessor;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParserAccessor;
+import io.github.leofuso.record.mapper.instrument.interceptor.accessors.ParsingAdvancer;
+
+import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.io.parsing.Parser;
+import org.apache.avro.io.parsing.Symbol;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * A {@link DecoderAccess} through the accessors the byte code enhancement adds to the rewritten decoders.
+ */
+public final class AccessorDecoderAccess implements DecoderAccess {
+
+    public static final AccessorDecoderAccess INSTANCE = new AccessorDecoderAccess();
+
+    private AccessorDecoderAccess() {}
+
+    @Override
+    public String name() {
+        return "bytecode";
+    }
+
+    @Override
+    public boolean supports(final ResolvingDecoder self) {
+        return self instanceof ParserAccessor
+                && self instanceof DecoderAccessor accessor
+                && accessor.accessDecoder() instanceof JsonDecoder in
+                && in instanceof JsonParserAccessor
+                && in instanceof ParsingAdvancer;
+    }
+
+    @Override
+    public Fallback fallback(final ResolvingDecoder self) {
+        if (self instanceof DecoderAccessor accessor && !(accessor.accessDecoder() instanceof JsonDecoder)) {
+            return Fallback.NOT_JSON;
+        }
+        return Fallback.NOT_ENHANCED;
+    }
+
+    @Override
+    public Parser parser(final ResolvingDecoder self) {
+        return ((ParserAccessor) self).accessParser();
+    }
+
+    @Override
+    public JsonDecoder in(final ResolvingDecoder self) {
+        return ((DecoderAccessor) self).accessDecoder();
+    }
+
+    @Override
+    public JsonParser jsonParser(final ResolvingDecoder self) {
+        return ((JsonParserAccessor) in(self)).accessJsonParser();
+    }
+
+    @Override
+    public void advance(final ResolvingDecoder self, final Symbol symbol) {
+        ((ParsingAdvancer) in(self)).doAdvance(symbol);
+    }
+}
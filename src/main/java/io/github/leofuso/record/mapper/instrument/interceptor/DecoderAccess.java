@@ -0,0 +1,55 @@
+package io.github.leofuso.record.mapper.instrument.interceptor;
+
+import java.io.IOException;
+
+import io.github.leofuso.record.mapper.EnhancementMetrics.Fallback;
+
+import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.io.parsing.Parser;
+import org.apache.avro.io.parsing.Symbol;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Reaches into the internals of a {@link ResolvingDecoder}, and of the {@link JsonDecoder} it wraps, on behalf of the
+ * {@link AbstractInterceptor interceptors}.
+ */
+public interface DecoderAccess {
+
+    /**
+     * @return a short name for this access, e.g. {@code bytecode} or {@code lite}.
+     */
+    String name();
+
+    /**
+     * @return whether every other method can be called for the {@code self} decoder, as currently configured.
+     */
+    boolean supports(ResolvingDecoder self);
+
+    /**
+     * @return why the {@code self} decoder is not {@link #supports(ResolvingDecoder) supported}.
+     */
+    Fallback fallback(ResolvingDecoder self);
+
+    /**
+     * @return the grammar {@link Parser} of the {@code self} decoder.
+     */
+    Parser parser(ResolvingDecoder self);
+
+    /**
+     * @return the {@link JsonDecoder} the {@code self} decoder wraps.
+     */
+    JsonDecoder in(ResolvingDecoder self);
+
+    /**
+     * @return the {@link JsonParser} of the {@link JsonDecoder} the {@code self} decoder wraps.
+     */
+    JsonParser jsonParser(ResolvingDecoder self);
+
+    /**
+     * Advances the grammar of the {@link JsonDecoder} the {@code self} decoder wraps.
+     */
+    void advance(ResolvingDecoder self, Symbol symbol) throws IOException;
+
+}
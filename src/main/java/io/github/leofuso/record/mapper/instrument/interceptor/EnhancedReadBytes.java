@@ -14,28 +14,38 @@ import org.apache.avro.util.Utf8;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
-public final class EnhancedReadBytes extends AbstractInterceptor<ByteBuffer> {
+public final class EnhancedReadBytes extends AbstractInterceptor {
 
-    public EnhancedReadBytes(final ResolvingDecoder self, final Object[] ignored) {
-        super(self, () -> self.readBytes(null));
+    /**
+     * Intercepts decoders rewritten by the byte code enhancement.
+     */
+    public static final EnhancedReadBytes INSTANCE = new EnhancedReadBytes(AccessorDecoderAccess.INSTANCE);
+
+    /**
+     * Intercepts canonical decoders, as the lite enhancement does.
+     */
+    public static final EnhancedReadBytes LITE = new EnhancedReadBytes(VarHandleDecoderAccess.INSTANCE);
+
+    private EnhancedReadBytes(final DecoderAccess access) {
+        super(access);
     }
 
-    private Object readBytes() throws IOException {
-        final Parser parser = parser(Parser.class);
-        final JsonDecoder in = in();
+    private Object readBytes(final ResolvingDecoder self) throws IOException {
+        final Parser parser = parser(self);
+        final JsonDecoder in = in(self);
 
         final Symbol actual = parser.advance(Symbol.BYTES);
         if (actual == Symbol.STRING) {
             final Utf8 value = in.readString(null);
             return ByteBuffer.wrap(value.getBytes(), 0, value.getByteLength());
         }
-        return doReadBytes();
+        return doReadBytes(self);
     }
 
-    private Object doReadBytes() throws IOException {
-        final JsonParser in = parser(JsonParser.class);
+    private Object doReadBytes(final ResolvingDecoder self) throws IOException {
+        final JsonParser in = jsonParser(self);
 
-        advance(Symbol.BYTES);
+        advance(self, Symbol.BYTES);
         final JsonToken currentToken = in.getCurrentToken();
 
         return switch (currentToken) {
@@ -66,7 +76,12 @@ public final class EnhancedReadBytes extends AbstractInterceptor<ByteBuffer> {
     }
 
     @Override
-    public Object intercept(final Object[] ignored) throws Throwable {
-        return readBytes();
+    public Object intercept(final ResolvingDecoder self) throws Throwable {
+        return readBytes(self);
+    }
+
+    @Override
+    public Object invoke(final ResolvingDecoder self) throws Exception {
+        return self.readBytes(null);
     }
 }
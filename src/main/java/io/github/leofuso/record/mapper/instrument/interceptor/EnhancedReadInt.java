@@ -10,23 +10,33 @@ import org.apache.avro.io.parsing.Symbol;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
-public final class EnhancedReadInt extends AbstractInterceptor<Integer> {
+public final class EnhancedReadInt extends AbstractInterceptor {
 
-    public EnhancedReadInt(final ResolvingDecoder self, final Object[] ignored) {
-        super(self, self::readInt);
+    /**
+     * Intercepts decoders rewritten by the byte code enhancement.
+     */
+    public static final EnhancedReadInt INSTANCE = new EnhancedReadInt(AccessorDecoderAccess.INSTANCE);
+
+    /**
+     * Intercepts canonical decoders, as the lite enhancement does.
+     */
+    public static final EnhancedReadInt LITE = new EnhancedReadInt(VarHandleDecoderAccess.INSTANCE);
+
+    private EnhancedReadInt(final DecoderAccess access) {
+        super(access);
     }
 
-    private Object readInt() throws IOException {
-        final Parser parser = parser(Parser.class);
+    private Object readInt(final ResolvingDecoder self) throws IOException {
+        final Parser parser = parser(self);
 
         parser.advance(Symbol.INT);
-        return doReadInt();
+        return doReadInt(self);
     }
 
-    private Object doReadInt() throws IOException {
-        final JsonParser in = parser(JsonParser.class);
+    private Object doReadInt(final ResolvingDecoder self) throws IOException {
+        final JsonParser in = jsonParser(self);
 
-        advance(Symbol.INT);
+        advance(self, Symbol.INT);
         final JsonToken currentToken = in.getCurrentToken();
 
         return switch (currentToken) {
@@ -50,7 +60,12 @@ public final class EnhancedReadInt extends AbstractInterceptor<Integer> {
     }
 
     @Override
-    public Object intercept(final Object[] ignored) throws Throwable {
-        return readInt();
+    public Object intercept(final ResolvingDecoder self) throws Throwable {
+        return readInt(self);
+    }
+
+    @Override
+    public Object invoke(final ResolvingDecoder self) throws Exception {
+        return self.readInt();
     }
 }
@@ -11,15 +11,25 @@ import org.apache.avro.io.parsing.Symbol;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
-public final class EnhancedReadLong extends AbstractInterceptor<Long> {
+public final class EnhancedReadLong extends AbstractInterceptor {
 
-    public EnhancedReadLong(final ResolvingDecoder self, final Object[] ignored){
-        super(self, self::readLong);
+    /**
+     * Intercepts decoders rewritten by the byte code enhancement.
+     */
+    public static final EnhancedReadLong INSTANCE = new EnhancedReadLong(AccessorDecoderAccess.INSTANCE);
+
+    /**
+     * Intercepts canonical decoders, as the lite enhancement does.
+     */
+    public static final EnhancedReadLong LITE = new EnhancedReadLong(VarHandleDecoderAccess.INSTANCE);
+
+    private EnhancedReadLong(final DecoderAccess access) {
+        super(access);
     }
 
-    private Object readLong() throws IOException {
-        final Parser parser = parser(Parser.class);
-        final JsonDecoder in = in();
+    private Object readLong(final ResolvingDecoder self) throws IOException {
+        final Parser parser = parser(self);
+        final JsonDecoder in = in(self);
 
         final Symbol actual = parser.advance(Symbol.LONG);
         if (actual == Symbol.INT) {
@@ -27,14 +37,14 @@ public final class EnhancedReadLong extends AbstractInterceptor<Long> {
         } else if (actual == Symbol.DOUBLE) {
             return (long) in.readDouble();
         } else {
-            return doReadLong();
+            return doReadLong(self);
         }
     }
 
-    private Object doReadLong() throws IOException {
-        final JsonParser in = parser(JsonParser.class);
+    private Object doReadLong(final ResolvingDecoder self) throws IOException {
+        final JsonParser in = jsonParser(self);
 
-        advance(Symbol.LONG);
+        advance(self, Symbol.LONG);
         final JsonToken currentToken = in.getCurrentToken();
 
         return switch (currentToken) {
@@ -58,7 +68,12 @@ public final class EnhancedReadLong extends AbstractInterceptor<Long> {
     }
 
     @Override
-    public Object intercept(final Object[] ignored) throws Throwable {
-        return readLong();
+    public Object intercept(final ResolvingDecoder self) throws Throwable {
+        return readLong(self);
+    }
+
+    @Override
+    public Object invoke(final ResolvingDecoder self) throws Exception {
+        return self.readLong();
     }
 }
@@ -0,0 +1,125 @@
+package io.github.leofuso.record.mapper.instrument.interceptor;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+
+import io.github.leofuso.record.mapper.EnhancementMetrics.Fallback;
+import io.github.leofuso.record.mapper.EnhancementStatus;
+import io.github.leofuso.record.mapper.exception.Throwables;
+import io.github.leofuso.record.mapper.instrument.EnhancementOutcome;
+
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.ParsingDecoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.io.ValidatingDecoder;
+import org.apache.avro.io.parsing.Parser;
+import org.apache.avro.io.parsing.SkipParser;
+import org.apache.avro.io.parsing.Symbol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * A {@link DecoderAccess} through private-lookup {@link VarHandle VarHandles}, resolved once, over the canonical decoders. Backs
+ * the <i>lite</i> enhancement, for environments without ByteBuddy: no class is redefined.
+ * <p>
+ * If any handle cannot be resolved, e.g. on a module path not opening Avro's packages, no decoder is ever
+ * {@link #supports(ResolvingDecoder) supported}, and the {@link #status() status} reports why.
+ */
+public final class VarHandleDecoderAccess implements DecoderAccess {
+
+    private static final Logger logger = LoggerFactory.getLogger(VarHandleDecoderAccess.class);
+
+    public static final VarHandleDecoderAccess INSTANCE = new VarHandleDecoderAccess();
+
+    private final VarHandle parser;
+    private final VarHandle in;
+    private final VarHandle jsonParser;
+    private final MethodHandle advance;
+
+    private final EnhancementStatus status;
+
+    private VarHandleDecoderAccess() {
+        final long start = System.nanoTime();
+        VarHandle parser = null;
+        VarHandle in = null;
+        VarHandle jsonParser = null;
+        MethodHandle advance = null;
+        EnhancementStatus status;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandles.Lookup parsingDecoder = MethodHandles.privateLookupIn(ParsingDecoder.class, lookup);
+            final MethodHandles.Lookup validatingDecoder = MethodHandles.privateLookupIn(ValidatingDecoder.class, lookup);
+            final MethodHandles.Lookup jsonDecoder = MethodHandles.privateLookupIn(JsonDecoder.class, lookup);
+
+            parser = parsingDecoder.findVarHandle(ParsingDecoder.class, "parser", SkipParser.class);
+            in = validatingDecoder.findVarHandle(ValidatingDecoder.class, "in", Decoder.class);
+            jsonParser = jsonDecoder.findVarHandle(JsonDecoder.class, "in", JsonParser.class);
+            advance = jsonDecoder.findVirtual(JsonDecoder.class, "advance", MethodType.methodType(void.class, Symbol.class));
+
+            status = EnhancementOutcome.applied(EnhancementStatus.Mode.LITE, Duration.ofNanos(System.nanoTime() - start));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Unable to resolve decoder handles, lite enhancement is unavailable.", e);
+            status = EnhancementOutcome.failed(Duration.ofNanos(System.nanoTime() - start), e);
+        }
+        this.parser = parser;
+        this.in = in;
+        this.jsonParser = jsonParser;
+        this.advance = advance;
+        this.status = status;
+    }
+
+    /**
+     * @return the {@link EnhancementStatus outcome} of resolving every handle.
+     */
+    public EnhancementStatus status() {
+        return status;
+    }
+
+    @Override
+    public String name() {
+        return "lite";
+    }
+
+    @Override
+    public boolean supports(final ResolvingDecoder self) {
+        return advance != null && in.get(self) instanceof JsonDecoder;
+    }
+
+    @Override
+    public Fallback fallback(final ResolvingDecoder self) {
+        return advance == null ? Fallback.NOT_ENHANCED : Fallback.NOT_JSON;
+    }
+
+    @Override
+    public Parser parser(final ResolvingDecoder self) {
+        return (Parser) parser.get(self);
+    }
+
+    @Override
+    public JsonDecoder in(final ResolvingDecoder self) {
+        return (JsonDecoder) in.get(self);
+    }
+
+    @Override
+    public JsonParser jsonParser(final ResolvingDecoder self) {
+        return (JsonParser) jsonParser.get(in(self));
+    }
+
+    @Override
+    public void advance(final ResolvingDecoder self, final Symbol symbol) throws IOException {
+        try {
+            advance.invokeExact(in(self), symbol);
+        } catch (final IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            Throwables.rethrowRuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.leofuso.record.mapper.instrument.EnhancedDecoder;
+import io.github.leofuso.record.mapper.instrument.InterceptorMetrics;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversion;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.util.Utf8;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Base for {@link Schema}-driven readers walking a {@code JSON} token stream directly, without building an intermediary tree.
+ * <p>
+ * Scalars are bound as strictly as the {@link org.apache.avro.io.JsonDecoder JsonDecoder} would, unless the {@link SchemaPlan plans}
+ * are {@link SchemaPlan#relaxed relaxed}, i.e. backing an <i>Enhanced</i> mapper. Only then, a field with a {@link Conversion} for its
+ * {@link LogicalType} is also bound in a relaxed manner, e.g. expecting a Long field but found a CharSequence value instead. Values a
+ * Conversion fails to convert are reported as an {@link AvroTypeException}. Relaxed {@code int}, {@code long} and {@code bytes} reads
+ * are counted in the {@link InterceptorMetrics}, under the {@code [streaming]} name of the interceptor they stand in for.
+ * <p>
+ * Readers follow the {@link JsonParser} convention: a value is read starting from its first token, and left at its last one.
+ */
+public abstract class AbstractJsonDatumReader {
+
+    /* Named after the interceptors, which this class must not load: doing so would load the decoders ahead of the enhancement */
+    private static final InterceptorMetrics READ_INT = InterceptorMetrics.register("EnhancedReadInt[streaming]");
+    private static final InterceptorMetrics READ_LONG = InterceptorMetrics.register("EnhancedReadLong[streaming]");
+    private static final InterceptorMetrics READ_BYTES = InterceptorMetrics.register("EnhancedReadBytes[streaming]");
+
+    private final SchemaPlanner planner;
+
+    AbstractJsonDatumReader(final SchemaPlanner planner) {
+        this.planner = Objects.requireNonNull(planner, SchemaPlanner.class.getSimpleName() + " [planner] is required.");
+    }
+
+    /**
+     * @return the {@link SchemaPlan plan} for the {@link Schema}.
+     */
+    SchemaPlan plan(final Schema schema) {
+        return planner.plan(schema);
+    }
+
+    /**
+     * @return the {@link GenericData} used to instantiate records, enums and fixed values.
+     */
+    protected GenericData model() {
+        return planner.model();
+    }
+
+    /**
+     * Reads the current scalar token as a {@link Schema Schema-compatible} value. If a {@link Conversion} is provided, the value is
+     * returned in its logical representation, converted through the plan's {@link SchemaPlan#converter RelaxedConverter}. A
+     * {@code null} is only accepted if the {@link SchemaPlan#acceptsNull() plan does}.
+     */
+    Object readScalar(final JsonParser parser, final SchemaPlan plan, final Conversion<Object> conversion) throws IOException {
+        final InterceptorMetrics metrics = conversion == null ? null : metrics(plan);
+        if (metrics == null) {
+            return doReadScalar(parser, plan, conversion);
+        }
+        metrics.intercepted();
+        if (metrics.sample()) {
+            final long start = System.nanoTime();
+            try {
+                return doReadScalar(parser, plan, conversion);
+            } finally {
+                metrics.latency(System.nanoTime() - start);
+            }
+        }
+        return doReadScalar(parser, plan, conversion);
+    }
+
+    /**
+     * @return the {@link InterceptorMetrics} counting the reads of the {@code plan}, if it {@link SchemaPlan#relaxes() relaxes}
+     *         one of the reads the <i>Enhanced</i> Readers intercept; {@code null} otherwise.
+     */
+    private static InterceptorMetrics metrics(final SchemaPlan plan) {
+        if (!plan.relaxes()) {
+            return null;
+        }
+        return switch (plan.type) {
+            case INT -> READ_INT;
+            case LONG -> READ_LONG;
+            case BYTES -> READ_BYTES;
+            default -> null;
+        };
+    }
+
+    private Object doReadScalar(final JsonParser parser, final SchemaPlan plan, final Conversion<Object> conversion) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            if (!plan.acceptsNull()) {
+                throw expected(plan.schema, token);
+            }
+            return null;
+        }
+
+        final Object datum = bind(parser, plan, conversion != null, token);
+        return conversion == null ? datum : plan.converter.convert(datum);
+    }
+
+    /**
+     * Binds the current token as the datum a {@link org.apache.avro.io.Decoder Decoder} would read, or, if {@code converted} and
+     * the {@link SchemaPlan#relaxes() plan relaxes}, as the relaxed datum an {@link EnhancedDecoder} would read.
+     */
+    private Object bind(final JsonParser parser, final SchemaPlan plan, final boolean converted, final JsonToken token) throws IOException {
+        final Schema schema = plan.schema;
+        final boolean relaxed = converted && plan.relaxes();
+        return switch (plan.type) {
+            case INT -> switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getIntValue();
+                case VALUE_STRING -> {
+                    if (!relaxed) {
+                        throw expected(schema, token);
+                    }
+                    yield parser.getText();
+                }
+                default -> throw expected(schema, token);
+            };
+            case LONG -> switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getLongValue();
+                case VALUE_STRING -> {
+                    if (!relaxed) {
+                        throw expected(schema, token);
+                    }
+                    yield parser.getText();
+                }
+                default -> throw expected(schema, token);
+            };
+            case FLOAT -> readFloat(parser, schema);
+            case DOUBLE -> readDouble(parser, schema);
+            case BOOLEAN -> readBoolean(parser, schema);
+            case STRING -> {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw expected(schema, token);
+                }
+                final String value = parser.getText();
+                yield converted || plan.javaString ? value : new Utf8(value);
+            }
+            case BYTES -> switch (token) {
+                case VALUE_STRING -> ByteBuffer.wrap(parser.getText().getBytes(StandardCharsets.ISO_8859_1));
+                case VALUE_NUMBER_FLOAT -> {
+                    if (!relaxed) {
+                        throw expected(schema, token);
+                    }
+                    yield parser.getDoubleValue();
+                }
+                case VALUE_NUMBER_INT -> {
+                    if (!relaxed) {
+                        throw expected(schema, token);
+                    }
+                    yield parser.getIntValue();
+                }
+                default -> throw expected(schema, token);
+            };
+            case FIXED -> {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw expected(schema, token);
+                }
+                final byte[] bytes = parser.getText().getBytes(StandardCharsets.ISO_8859_1);
+                final int size = schema.getFixedSize();
+                if (bytes.length != size) {
+                    throw new AvroTypeException("Expected fixed length " + size + ", but got " + bytes.length);
+                }
+                yield model().createFixed(null, bytes, schema);
+            }
+            case ENUM -> {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw expected(schema, token);
+                }
+                final String symbol = parser.getText();
+                if (!schema.hasEnumSymbol(symbol)) {
+                    throw new AvroTypeException("Unknown symbol in enum " + schema.getFullName() + ": " + symbol);
+                }
+                yield model().createEnum(symbol, schema);
+            }
+            default -> throw expected(schema, token);
+        };
+    }
+
+    /**
+     * Reads the current token as a primitive {@code float}, accepting numbers only, as the JsonDecoder does.
+     */
+    protected static float readFloat(final JsonParser parser, final Schema schema) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (!token.isNumeric()) {
+            throw expected(schema, token);
+        }
+        return parser.getFloatValue();
+    }
+
+    /**
+     * Reads the current token as a primitive {@code double}, accepting numbers only, as the JsonDecoder does.
+     */
+    protected static double readDouble(final JsonParser parser, final Schema schema) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (!token.isNumeric()) {
+            throw expected(schema, token);
+        }
+        return parser.getDoubleValue();
+    }
+
+    /**
+     * Reads the current token as a primitive {@code boolean}.
+     */
+    protected static boolean readBoolean(final JsonParser parser, final Schema schema) {
+        final JsonToken token = parser.currentToken();
+        return switch (token) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            default -> throw expected(schema, token);
+        };
+    }
+
+    /**
+     * Resolves the union branch compatible with the current token, in declaration order. Branches that only accept the token
+     * through a wider numeric type, or a relaxed binding, are considered last.
+     *
+     * @return the branch index, or {@code -1} if none of the branches is compatible.
+     */
+    protected static int resolveBranch(final JsonParser parser, final SchemaPlan union) throws IOException {
+        final List<Schema> types = union.schema.getTypes();
+        for (int i = 0; i < types.size(); i++) {
+            if (accepts(parser, types.get(i))) {
+                return i;
+            }
+        }
+        final SchemaPlan[] branches = union.branches;
+        for (int i = 0; i < branches.length; i++) {
+            if (relaxedAccepts(parser.currentToken(), branches[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean accepts(final JsonParser parser, final Schema branch) throws IOException {
+        final JsonToken token = parser.currentToken();
+        final Schema.Type type = branch.getType();
+        return switch (token) {
+            case VALUE_NULL -> type == Schema.Type.NULL;
+            case VALUE_TRUE, VALUE_FALSE -> type == Schema.Type.BOOLEAN;
+            case VALUE_NUMBER_INT -> switch (type) {
+                case INT -> parser.getNumberType() == JsonParser.NumberType.INT;
+                case LONG, FLOAT, DOUBLE -> true;
+                default -> false;
+            };
+            case VALUE_NUMBER_FLOAT -> type == Schema.Type.FLOAT || type == Schema.Type.DOUBLE;
+            case VALUE_STRING -> switch (type) {
+                case STRING, BYTES, FIXED -> true;
+                case ENUM -> branch.hasEnumSymbol(parser.getText());
+                default -> false;
+            };
+            case START_ARRAY -> type == Schema.Type.ARRAY;
+            case START_OBJECT, FIELD_NAME, END_OBJECT -> type == Schema.Type.RECORD || type == Schema.Type.MAP;
+            default -> false;
+        };
+    }
+
+    private static boolean relaxedAccepts(final JsonToken token, final SchemaPlan branch) {
+        return switch (token) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> switch (branch.type) {
+                case INT, LONG -> true;
+                case BYTES -> branch.relaxes();
+                default -> false;
+            };
+            case VALUE_STRING -> switch (branch.type) {
+                case INT, LONG -> branch.relaxes();
+                default -> false;
+            };
+            default -> false;
+        };
+    }
+
+    /**
+     * Asserts the current token, failing with an {@link AvroTypeException} otherwise.
+     */
+    protected static void expect(final JsonParser parser, final JsonToken expected, final Schema schema) {
+        final JsonToken token = parser.currentToken();
+        if (token != expected) {
+            throw expected(schema, token);
+        }
+    }
+
+    protected static AvroTypeException duplicated(final String name, final Schema schema) {
+        return new AvroTypeException("Duplicate field [%s] in %s".formatted(name, schema.getFullName()));
+    }
+
+    protected static AvroTypeException expected(final Schema schema, final JsonToken token) {
+        final Schema.Type type = schema.getType();
+        return new AvroTypeException("Expected " + type.getName() + ". Got " + token);
+    }
+}
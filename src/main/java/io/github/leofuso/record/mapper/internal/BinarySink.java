@@ -0,0 +1,75 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+
+/**
+ * A reusable {@link OutputStream} front for either a caller-provided {@link OutputStream} or {@link ByteBuffer}, with a
+ * {@link BinaryEncoder} bound to it once. Lets a steady-state serialization write straight to its destination without allocating a
+ * new encoder, nor an intermediary buffer, per call.
+ * <p>
+ * Instances are not thread-safe, and are meant to be held per thread.
+ */
+final class BinarySink extends OutputStream {
+
+    private final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(this, null);
+
+    private OutputStream stream;
+    private ByteBuffer buffer;
+
+    /**
+     * @return the {@link BinaryEncoder} writing into the {@code stream}, until {@link #release() released}.
+     */
+    BinaryEncoder open(final OutputStream stream) {
+        this.stream = stream;
+        this.buffer = null;
+        return encoder;
+    }
+
+    /**
+     * @return the {@link BinaryEncoder} writing into the {@code buffer}, from its current position, until
+     * {@link #release() released}.
+     */
+    BinaryEncoder open(final ByteBuffer buffer) {
+        this.stream = null;
+        this.buffer = buffer;
+        return encoder;
+    }
+
+    /**
+     * Drops any reference to the last destination.
+     */
+    void release() {
+        this.stream = null;
+        this.buffer = null;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (buffer != null) {
+            buffer.put((byte) b);
+        } else {
+            stream.write(b);
+        }
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (buffer != null) {
+            buffer.put(bytes, offset, length);
+        } else {
+            stream.write(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (stream != null) {
+            stream.flush();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache, evicting an approximately least recently used entry once full. Used to hold on to
+ * {@link org.apache.avro.io.DatumReader Readers} and {@link org.apache.avro.io.DatumWriter Writers}, which are thread-safe and keep
+ * their own resolver and grammar caches, instead of producing new ones on every call.
+ * <p>
+ * Reads never lock: a hit only stamps its entry with the current clock, which only ticks on inserts. Once past its maximum size,
+ * the entry with the oldest stamp is evicted; entries used since the same insert share a stamp, hence the approximation.
+ * <p>
+ * Instances are thread-safe.
+ */
+final class DatumCache<K, V> {
+
+    /**
+     * Default maximum number of entries per cache.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private final int maximumSize;
+    private final Map<K, Entry<V>> entries;
+    private final AtomicLong clock = new AtomicLong();
+
+    DatumCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("[maximumSize] must be positive. Got " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 10));
+    }
+
+    /**
+     * @return the cached value for the {@code key}, producing and caching a new one if absent.
+     */
+    V get(final K key, final Function<? super K, ? extends V> producer) {
+        final Entry<V> cached = entries.get(key);
+        if (cached != null) {
+            cached.touch(clock.get());
+            return cached.value;
+        }
+
+        /* Producing a value may be expensive; it's done outside of any lock, and the first one in wins */
+        final Entry<V> produced = new Entry<>(producer.apply(key), clock.incrementAndGet());
+        final Entry<V> raced = entries.putIfAbsent(key, produced);
+        if (raced != null) {
+            raced.touch(clock.get());
+            return raced.value;
+        }
+        evict();
+        return produced.value;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Evicts the entries with the oldest stamps until back to the maximum size. Concurrent inserts may evict a few entries more than
+     * strictly needed, which are produced again on their next use.
+     */
+    private void evict() {
+        while (entries.size() > maximumSize) {
+            Map.Entry<K, Entry<V>> eldest = null;
+            for (final Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+                if (eldest == null || entry.getValue().stamp < eldest.getValue().stamp) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long stamp;
+
+        private Entry(final V value, final long stamp) {
+            this.value = value;
+            this.stamp = stamp;
+        }
+
+        private void touch(final long now) {
+            /* Spares the write, and the cache line, on entries already stamped since the last insert */
+            if (stamp != now) {
+                stamp = now;
+            }
+        }
+    }
+}
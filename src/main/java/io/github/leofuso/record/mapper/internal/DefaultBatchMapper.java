@@ -0,0 +1,128 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import io.github.leofuso.record.mapper.BatchMapper;
+import io.github.leofuso.record.mapper.RecordMapper.AvroMappingException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+public class DefaultBatchMapper implements BatchMapper {
+
+    private final JsonMapper jsonMapper;
+    private final Schema schema;
+
+    private final JsonDatumTranscoder transcoder;
+    private final JsonDatumBuilder builder;
+
+    private final Buffer buffer = new Buffer();
+    private final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(buffer, null);
+
+    private GenericData.Record record;
+
+    DefaultBatchMapper(final JsonMapper jsonMapper, final SchemaPlanner planner, final Schema schema) {
+        this.jsonMapper = Objects.requireNonNull(jsonMapper, JsonMapper.class.getSimpleName() + " [jsonMapper] is required.");
+        this.schema = Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        this.transcoder = new JsonDatumTranscoder(planner);
+        this.builder = new JsonDatumBuilder(planner);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void serializeAll(final Iterable<String> json, final Callback<ByteBuffer> callback) {
+        Objects.requireNonNull(json, Iterable.class.getSimpleName() + " [json] is required.");
+        Objects.requireNonNull(callback, Callback.class.getSimpleName() + " [callback] is required.");
+
+        int index = 0;
+        for (final String document : json) {
+            final ByteBuffer value;
+            try {
+                value = serialize(document);
+            } catch (final AvroMappingException e) {
+                callback.onError(index++, e);
+                continue;
+            }
+            callback.onValue(index++, value);
+        }
+    }
+
+    private ByteBuffer serialize(final String document) {
+        buffer.reset();
+        try (final JsonParser parser = createParser(document)) {
+
+            transcoder.write(parser, schema, encoder);
+            encoder.flush();
+            return buffer.view();
+
+        } catch (final IOException | RuntimeException e) {
+            throw mappingException(e);
+        }
+    }
+
+    @Override
+    public void asGenericDataRecords(final Iterable<String> json, final Callback<GenericData.Record> callback) {
+        Objects.requireNonNull(json, Iterable.class.getSimpleName() + " [json] is required.");
+        Objects.requireNonNull(callback, Callback.class.getSimpleName() + " [callback] is required.");
+
+        int index = 0;
+        for (final String document : json) {
+            final GenericData.Record value;
+            try {
+                value = asGenericDataRecord(document);
+            } catch (final AvroMappingException e) {
+                callback.onError(index++, e);
+                continue;
+            }
+            callback.onValue(index++, value);
+        }
+    }
+
+    private GenericData.Record asGenericDataRecord(final String document) {
+        try (final JsonParser parser = createParser(document)) {
+
+            final GenericData.Record value = (GenericData.Record) builder.read(parser, schema, record);
+            if (value != null) {
+                record = value;
+            }
+            return value;
+
+        } catch (final IOException | RuntimeException e) {
+            throw mappingException(e);
+        }
+    }
+
+    private JsonParser createParser(final String document) throws IOException {
+        Objects.requireNonNull(document, String.class.getSimpleName() + " [json] is required.");
+        return jsonMapper.createParser(document);
+    }
+
+    private static AvroMappingException mappingException(final Exception e) {
+        if (e instanceof AvroMappingException mappingException) {
+            return mappingException;
+        }
+        return new AvroMappingException("Unable to parse value.", e);
+    }
+
+    /**
+     * A growable buffer, exposing its content without copying it.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private ByteBuffer view() {
+            return ByteBuffer.wrap(buf, 0, count).asReadOnlyBuffer();
+        }
+    }
+}
@@ -2,20 +2,22 @@ package io.github.leofuso.record.mapper.internal;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.Objects;
 
+import io.github.leofuso.record.mapper.BatchMapper;
 import io.github.leofuso.record.mapper.RecordMapper;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
-import org.apache.avro.io.BinaryDecoder;
-import org.apache.avro.io.BinaryEncoder;
-import org.apache.avro.io.DatumReader;
+import org.apache.avro.generic.IndexedRecord;
 import org.apache.avro.io.DatumWriter;
-import org.apache.avro.io.DecoderFactory;
-import org.apache.avro.io.EncoderFactory;
-import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.Encoder;
 import org.apache.avro.io.NoWrappingJsonEncoder;
 import org.apache.avro.specific.SpecificData;
 import org.apache.avro.specific.SpecificDatumWriter;
@@ -24,21 +26,62 @@ import org.apache.avro.specific.SpecificRecord;
 import io.github.leofuso.record.mapper.RecordReaderFactory;
 import io.github.leofuso.record.mapper.RecordWriterFactory;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 public class DefaultRecordMapper implements RecordMapper {
 
     private final JsonMapper jsonMapper;
+    private final GenericData data;
+    private final SchemaPlanner planner;
+    private final DatumCache<GenericData, SchemaPlanner> specificPlanners = new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+
+    private final ThreadLocal<JsonDatumTranscoder> transcoders;
+    private final ThreadLocal<BinarySink> sinks = ThreadLocal.withInitial(BinarySink::new);
 
     private final RecordReaderFactory readerFactory;
     private final RecordWriterFactory writerFactory;
 
+    /**
+     * Binds the {@link GenericData} of the {@code readerFactory}, if it's one of this library's factories; otherwise, the JVM-wide
+     * {@link GenericData#get()}, whose conversions the factories never see.
+     *
+     * @deprecated the {@link GenericData} should be the one backing the factories; use
+     * {@link #DefaultRecordMapper(JsonMapper, GenericData, RecordWriterFactory, RecordReaderFactory)} instead.
+     */
+    @Deprecated
     public DefaultRecordMapper(JsonMapper mapper, RecordWriterFactory writerFactory, RecordReaderFactory readerFactory) {
+        this(mapper, data(readerFactory), writerFactory, readerFactory);
+    }
+
+    public DefaultRecordMapper(
+            JsonMapper mapper,
+            GenericData data,
+            RecordWriterFactory writerFactory,
+            RecordReaderFactory readerFactory
+    ) {
+        this(mapper, data, false, writerFactory, readerFactory);
+    }
+
+    /**
+     * @param relaxed whether values are bound in a relaxed manner, as the <i>Enhanced</i> reads do, or as strictly as the
+     *                {@link org.apache.avro.io.JsonDecoder JsonDecoder} would.
+     */
+    DefaultRecordMapper(
+            JsonMapper mapper,
+            GenericData data,
+            boolean relaxed,
+            RecordWriterFactory writerFactory,
+            RecordReaderFactory readerFactory
+    ) {
         this.jsonMapper = Objects.requireNonNull(mapper, JsonMapper.class.getSimpleName() + " [mapper] is required.");
+        this.data = Objects.requireNonNull(data, GenericData.class.getSimpleName() + " [data] is required.");
+        this.planner = new SchemaPlanner(data, relaxed);
+        this.transcoders = ThreadLocal.withInitial(() -> new JsonDatumTranscoder(planner));
         this.writerFactory = Objects.requireNonNull(
                 writerFactory,
                 RecordWriterFactory.class.getSimpleName() + " [writerFactory] is required."
@@ -49,141 +92,365 @@ public class DefaultRecordMapper implements RecordMapper {
         );
     }
 
+    private static GenericData data(final RecordReaderFactory factory) {
+        if (factory instanceof EnhancedRecordReaderWriterFactory enhanced) {
+            return enhanced.getData();
+        }
+        if (factory instanceof DefaultRecordReaderWriterFactory standard) {
+            return standard.getData();
+        }
+        return GenericData.get();
+    }
+
     @Override
     public ByteBuffer serialize(final String json, final Schema schema) {
         Objects.requireNonNull(json, String.class.getSimpleName() + " [json] is required.");
-        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        return serialize(() -> jsonMapper.createParser(json), schema);
+    }
 
-        final GenericData.Record record = asGenericDataRecord(json, schema);
+    @Override
+    public ByteBuffer serialize(final byte[] json, final Schema schema) {
+        Objects.requireNonNull(json, "byte[] [json] is required.");
+        return serialize(() -> jsonMapper.createParser(json), schema);
+    }
 
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    @Override
+    public ByteBuffer serialize(final ByteBuffer json, final Schema schema) {
+        Objects.requireNonNull(json, ByteBuffer.class.getSimpleName() + " [json] is required.");
+        return serialize(() -> createParser(json), schema);
+    }
 
-            final EncoderFactory encoderFactory = EncoderFactory.get();
-            final BinaryEncoder encoder = encoderFactory.directBinaryEncoder(outputStream, null);
+    @Override
+    public ByteBuffer serialize(final InputStream json, final Schema schema) {
+        Objects.requireNonNull(json, InputStream.class.getSimpleName() + " [json] is required.");
+        return serialize(() -> createParser(json), schema);
+    }
 
-            final DatumWriter<GenericData.Record> writer = writerFactory.produceWriter(schema);
-            writer.write(record, encoder);
-            encoder.flush();
+    @Override
+    public ByteBuffer serialize(final Reader json, final Schema schema) {
+        Objects.requireNonNull(json, Reader.class.getSimpleName() + " [json] is required.");
+        return serialize(() -> createParser(json), schema);
+    }
 
-            final byte[] byteArray = outputStream.toByteArray();
-            return ByteBuffer.wrap(byteArray);
+    @Override
+    public void serialize(final String json, final Schema schema, final OutputStream out) {
+        Objects.requireNonNull(json, String.class.getSimpleName() + " [json] is required.");
+        serialize(() -> jsonMapper.createParser(json), schema, out);
+    }
 
-        } catch (final IOException e) {
-            throw new AvroMappingException("Unable to parse to JsonNode.", e);
-        }
+    @Override
+    public void serialize(final byte[] json, final Schema schema, final OutputStream out) {
+        Objects.requireNonNull(json, "byte[] [json] is required.");
+        serialize(() -> jsonMapper.createParser(json), schema, out);
     }
 
     @Override
-    public GenericData.Record asGenericDataRecord(final String json, final Schema schema) {
+    public int serialize(final String json, final Schema schema, final ByteBuffer out) {
         Objects.requireNonNull(json, String.class.getSimpleName() + " [json] is required.");
-        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        return serialize(() -> jsonMapper.createParser(json), schema, out);
+    }
+
+    @Override
+    public int serialize(final byte[] json, final Schema schema, final ByteBuffer out) {
+        Objects.requireNonNull(json, "byte[] [json] is required.");
+        return serialize(() -> jsonMapper.createParser(json), schema, out);
+    }
+
+    @Override
+    public void serialize(final String json, final Schema schema, final Encoder encoder) {
+        Objects.requireNonNull(json, String.class.getSimpleName() + " [json] is required.");
+        serialize(() -> jsonMapper.createParser(json), schema, encoder);
+    }
+
+    @Override
+    public void serialize(final byte[] json, final Schema schema, final Encoder encoder) {
+        Objects.requireNonNull(json, "byte[] [json] is required.");
+        serialize(() -> jsonMapper.createParser(json), schema, encoder);
+    }
+
+    private ByteBuffer serialize(final ParserSource source, final Schema schema) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serialize(source, schema, outputStream);
+
+        final byte[] byteArray = outputStream.toByteArray();
+        return ByteBuffer.wrap(byteArray);
+    }
 
+    private void serialize(final ParserSource source, final Schema schema, final OutputStream out) {
+        Objects.requireNonNull(out, OutputStream.class.getSimpleName() + " [out] is required.");
+
+        final BinarySink sink = sinks.get();
         try {
+            serialize(source, schema, sink.open(out));
+        } finally {
+            sink.release();
+        }
+    }
 
-            final ObjectReader reader = jsonMapper.reader();
-            final JsonNode sourceNode = reader.readTree(json);
+    private int serialize(final ParserSource source, final Schema schema, final ByteBuffer out) {
+        Objects.requireNonNull(out, ByteBuffer.class.getSimpleName() + " [out] is required.");
 
-            final JsonNode compatibleNode = toCompatibleNode(sourceNode, schema);
-            final String datumInput = jsonMapper.writeValueAsString(compatibleNode);
+        final int position = out.position();
+        final BinarySink sink = sinks.get();
+        boolean written = false;
+        try {
+            serialize(source, schema, sink.open(out));
+            written = true;
+            return out.position() - position;
+        } catch (final BufferOverflowException e) {
+            throw new AvroMappingException("Not enough room in buffer.", e);
+        } finally {
+            if (!written) {
+                /* Whatever the failure, the buffer is left as it was handed over */
+                out.position(position);
+            }
+            sink.release();
+        }
+    }
 
-            final DecoderFactory decoderFactory = DecoderFactory.get();
-            final JsonDecoder decoder = decoderFactory.jsonDecoder(schema, datumInput);
+    private void serialize(final ParserSource source, final Schema schema, final Encoder encoder) {
+        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        Objects.requireNonNull(encoder, Encoder.class.getSimpleName() + " [encoder] is required.");
 
-            final DatumReader<GenericData.Record> datumReader = readerFactory.produceReader(schema);
-            return datumReader.read(null, decoder);
+        try (final JsonParser parser = source.open()) {
+
+            final JsonDatumTranscoder transcoder = transcoders.get();
+            transcoder.write(parser, schema, encoder);
+            encoder.flush();
 
         } catch (final IOException e) {
             throw new AvroMappingException("Unable to parse value.", e);
         }
     }
 
-    private JsonNode toCompatibleNode(final JsonNode sourceNode, final Schema schema) {
-        final Schema.Type schemaType = schema.getType();
-        final boolean isNotRecord = schemaType != Schema.Type.RECORD;
-        if (isNotRecord) {
-            return sourceNode.deepCopy();
-        }
-        final ObjectNode targetNode = jsonMapper.createObjectNode();
-        for (final Schema.Field field : schema.getFields()) {
-
-            final String name = field.name();
-            final String pathExpression = "/%s".formatted(name);
-            final JsonNode childSourceNode = sourceNode.at(pathExpression);
-
-            final JsonNodeType childSourceNodeType = childSourceNode.getNodeType();
-            final JsonNode childTargetNode = switch (childSourceNodeType) {
-                case OBJECT, ARRAY -> {
-                    final Schema fieldSchema = field.schema();
-                    yield toCompatibleNode(childSourceNode, fieldSchema);
-                }
-                default -> childSourceNode;
-            };
-            targetNode.set(name, childTargetNode);
+    @Override
+    public GenericData.Record asGenericDataRecord(final String json, final Schema schema) {
+        Objects.requireNonNull(json, String.class.getSimpleName() + " [json] is required.");
+        return asGenericDataRecord(() -> jsonMapper.createParser(json), schema);
+    }
+
+    @Override
+    public GenericData.Record asGenericDataRecord(final byte[] json, final Schema schema) {
+        Objects.requireNonNull(json, "byte[] [json] is required.");
+        return asGenericDataRecord(() -> jsonMapper.createParser(json), schema);
+    }
+
+    @Override
+    public GenericData.Record asGenericDataRecord(final ByteBuffer json, final Schema schema) {
+        Objects.requireNonNull(json, ByteBuffer.class.getSimpleName() + " [json] is required.");
+        return asGenericDataRecord(() -> createParser(json), schema);
+    }
+
+    @Override
+    public GenericData.Record asGenericDataRecord(final InputStream json, final Schema schema) {
+        Objects.requireNonNull(json, InputStream.class.getSimpleName() + " [json] is required.");
+        return asGenericDataRecord(() -> createParser(json), schema);
+    }
+
+    @Override
+    public GenericData.Record asGenericDataRecord(final Reader json, final Schema schema) {
+        Objects.requireNonNull(json, Reader.class.getSimpleName() + " [json] is required.");
+        return asGenericDataRecord(() -> createParser(json), schema);
+    }
+
+    private GenericData.Record asGenericDataRecord(final ParserSource source, final Schema schema) {
+        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+
+        try (final JsonParser parser = source.open()) {
+
+            final JsonDatumBuilder builder = new JsonDatumBuilder(planner);
+            return (GenericData.Record) builder.read(parser, schema);
+
+        } catch (final IOException e) {
+            throw new AvroMappingException("Unable to parse value.", e);
         }
-        return targetNode;
     }
 
     @Override
-    public <T extends SpecificRecord> T asRecord(final String json, Class<T> type) {
+    public <T extends SpecificRecord> T asRecord(final String json, final Class<T> type) {
         Objects.requireNonNull(json, String.class.getSimpleName() + " [json] is required.");
+        return asRecord(() -> jsonMapper.createParser(json), type);
+    }
+
+    @Override
+    public <T extends SpecificRecord> T asRecord(final byte[] json, final Class<T> type) {
+        Objects.requireNonNull(json, "byte[] [json] is required.");
+        return asRecord(() -> jsonMapper.createParser(json), type);
+    }
+
+    @Override
+    public <T extends SpecificRecord> T asRecord(final ByteBuffer json, final Class<T> type) {
+        Objects.requireNonNull(json, ByteBuffer.class.getSimpleName() + " [json] is required.");
+        return asRecord(() -> createParser(json), type);
+    }
+
+    @Override
+    public <T extends SpecificRecord> T asRecord(final InputStream json, final Class<T> type) {
+        Objects.requireNonNull(json, InputStream.class.getSimpleName() + " [json] is required.");
+        return asRecord(() -> createParser(json), type);
+    }
+
+    @Override
+    public <T extends SpecificRecord> T asRecord(final Reader json, final Class<T> type) {
+        Objects.requireNonNull(json, Reader.class.getSimpleName() + " [json] is required.");
+        return asRecord(() -> createParser(json), type);
+    }
+
+    private <T extends SpecificRecord> T asRecord(final ParserSource source, final Class<T> type) {
         Objects.requireNonNull(type, Class.class.getSimpleName() + " [type] is required.");
 
-        try {
+        try (final JsonParser parser = source.open()) {
 
             final SpecificData specificData = SpecificData.getForClass(type);
             final Schema schema = specificData.getSchema(type);
 
-            final DecoderFactory decoderFactory = DecoderFactory.get();
-            final ByteBuffer buffer = serialize(json, schema);
-            final byte[] array = buffer.array();
-            final BinaryDecoder decoder = decoderFactory.binaryDecoder(array, 0, array.length, null);
-
-            final DatumReader<T> reader = readerFactory.produceReader(type);
-            return reader.read(null, decoder);
+            final SchemaPlanner specificPlanner = specificPlanners.get(
+                    specificData,
+                    model -> new SchemaPlanner(data, model, planner.relaxed())
+            );
+            final JsonDatumBuilder builder = new JsonDatumBuilder(specificPlanner);
+            return type.cast(builder.read(parser, schema));
 
         } catch (final IOException e) {
-            throw new AvroMappingException("Unable to parse to JsonNode.", e);
+            throw new AvroMappingException("Unable to parse value.", e);
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    public BatchMapper batch(final Schema schema) {
+        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        return new DefaultBatchMapper(jsonMapper, planner, schema);
+    }
+
+    @Override
     public <T extends SpecificRecord> JsonNode asJsonNode(final T record) {
         Objects.requireNonNull(record, " T [record] is required.");
 
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+        final Schema schema = record.getSchema();
+        final SpecificData specificData = SpecificData.getForClass(record.getClass());
 
-            final Schema schema = record.getSchema();
-            final SpecificDatumWriter<T> writer = writerFactory.produceWriter((Class<T>) record.getClass());
+        final JsonNodeBuilder builder = new JsonNodeBuilder(specificData, jsonMapper.getNodeFactory());
+        return builder.build(record, schema);
+    }
 
-            final NoWrappingJsonEncoder encoder = new NoWrappingJsonEncoder(schema, outputStream);
-            writer.write(record, encoder);
+    @Override
+    public JsonNode asJsonNode(final GenericData.Record record) {
+        Objects.requireNonNull(record, GenericData.Record.class.getSimpleName() + " [record] is required.");
 
-            encoder.flush();
-            return jsonMapper.readTree(outputStream.toByteArray());
+        final Schema schema = record.getSchema();
+        final JsonNodeBuilder builder = new JsonNodeBuilder(data, jsonMapper.getNodeFactory());
+        return builder.build(record, schema);
+    }
 
-        } catch (final IOException e) {
-            throw new AvroMappingException("Unable to parse to JsonNode.", e);
-        }
+    @Override
+    public void writeJson(final GenericData.Record record, final OutputStream out) {
+        Objects.requireNonNull(record, GenericData.Record.class.getSimpleName() + " [record] is required.");
+        Objects.requireNonNull(out, OutputStream.class.getSimpleName() + " [out] is required.");
+        writeJson(record, writerFactory.produceWriter(record.getSchema()), () -> jsonMapper.createGenerator(out, JsonEncoding.UTF8));
     }
 
     @Override
-    public JsonNode asJsonNode(final GenericData.Record record) {
+    public void writeJson(final GenericData.Record record, final Writer out) {
         Objects.requireNonNull(record, GenericData.Record.class.getSimpleName() + " [record] is required.");
+        Objects.requireNonNull(out, Writer.class.getSimpleName() + " [out] is required.");
+        writeJson(record, writerFactory.produceWriter(record.getSchema()), () -> jsonMapper.createGenerator(out));
+    }
 
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    @Override
+    public void writeJson(final GenericData.Record record, final JsonGenerator generator) {
+        Objects.requireNonNull(record, GenericData.Record.class.getSimpleName() + " [record] is required.");
+        Objects.requireNonNull(generator, JsonGenerator.class.getSimpleName() + " [generator] is required.");
+        writeJson(record, writerFactory.produceWriter(record.getSchema()), generator);
+    }
 
-            final Schema schema = record.getSchema();
-            final DatumWriter<GenericData.Record> writer = writerFactory.produceWriter(schema);
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends SpecificRecord> void writeJson(final T record, final OutputStream out) {
+        Objects.requireNonNull(record, " T [record] is required.");
+        Objects.requireNonNull(out, OutputStream.class.getSimpleName() + " [out] is required.");
+        final SpecificDatumWriter<T> writer = writerFactory.produceWriter((Class<T>) record.getClass());
+        writeJson(record, writer, () -> jsonMapper.createGenerator(out, JsonEncoding.UTF8));
+    }
 
-            final NoWrappingJsonEncoder encoder = new NoWrappingJsonEncoder(schema, outputStream);
-            writer.write(record, encoder);
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends SpecificRecord> void writeJson(final T record, final Writer out) {
+        Objects.requireNonNull(record, " T [record] is required.");
+        Objects.requireNonNull(out, Writer.class.getSimpleName() + " [out] is required.");
+        final SpecificDatumWriter<T> writer = writerFactory.produceWriter((Class<T>) record.getClass());
+        writeJson(record, writer, () -> jsonMapper.createGenerator(out));
+    }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends SpecificRecord> void writeJson(final T record, final JsonGenerator generator) {
+        Objects.requireNonNull(record, " T [record] is required.");
+        Objects.requireNonNull(generator, JsonGenerator.class.getSimpleName() + " [generator] is required.");
+        final SpecificDatumWriter<T> writer = writerFactory.produceWriter((Class<T>) record.getClass());
+        writeJson(record, writer, generator);
+    }
+
+    /**
+     * Writes into a {@link JsonGenerator} owned by this call, without closing its target.
+     */
+    private <T extends IndexedRecord> void writeJson(final T record, final DatumWriter<T> writer, final GeneratorSource source) {
+        try (final JsonGenerator generator = source.open()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeJson(record, writer, generator);
+        } catch (final IOException e) {
+            throw new AvroMappingException("Unable to write value.", e);
+        }
+    }
+
+    private <T extends IndexedRecord> void writeJson(final T record, final DatumWriter<T> writer, final JsonGenerator generator) {
+        try {
+
+            final Schema schema = record.getSchema();
+            final NoWrappingJsonEncoder encoder = new NoWrappingJsonEncoder(schema, generator);
+            writer.write(record, encoder);
             encoder.flush();
-            return jsonMapper.readTree(outputStream.toByteArray());
 
         } catch (final IOException e) {
-            throw new AvroMappingException("Unable to parse to JsonNode.", e);
+            throw new AvroMappingException("Unable to write value.", e);
         }
     }
+
+    /**
+     * Parses the remaining bytes of the {@link ByteBuffer}, straight from its backing array if there's one.
+     */
+    private JsonParser createParser(final ByteBuffer json) throws IOException {
+        if (json.hasArray()) {
+            final int offset = json.arrayOffset() + json.position();
+            return jsonMapper.createParser(json.array(), offset, json.remaining());
+        }
+        return jsonMapper.createParser(new ByteBufferBackedInputStream(json.duplicate()));
+    }
+
+    /**
+     * Parses the {@link InputStream} without taking ownership of it.
+     */
+    private JsonParser createParser(final InputStream json) throws IOException {
+        final JsonParser parser = jsonMapper.createParser(json);
+        return parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * Parses the {@link Reader} without taking ownership of it.
+     */
+    private JsonParser createParser(final Reader json) throws IOException {
+        final JsonParser parser = jsonMapper.createParser(json);
+        return parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    @FunctionalInterface
+    private interface ParserSource {
+
+        JsonParser open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface GeneratorSource {
+
+        JsonGenerator open() throws IOException;
+    }
 }
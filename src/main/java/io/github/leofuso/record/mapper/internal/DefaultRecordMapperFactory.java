@@ -3,6 +3,7 @@ package io.github.leofuso.record.mapper.internal;
 import io.github.leofuso.record.mapper.RecordMapperFactory;
 
 import org.apache.avro.Conversion;
+import org.apache.avro.generic.GenericData;
 
 import io.github.leofuso.record.mapper.RecordMapper;
 
@@ -14,6 +15,7 @@ public class DefaultRecordMapperFactory implements RecordMapperFactory {
     public RecordMapper produce(final Conversion<?>... additional) {
         final JsonMapper mapper = JsonMapperFactory.getInstance();
         final DefaultRecordReaderWriterFactory factory = new DefaultRecordReaderWriterFactory(additional);
-        return new DefaultRecordMapper(mapper, factory, factory);
+        final GenericData data = factory.getData();
+        return new DefaultRecordMapper(mapper, data, factory, factory);
     }
 }
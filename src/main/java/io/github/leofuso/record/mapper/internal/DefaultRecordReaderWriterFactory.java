@@ -16,30 +16,49 @@ public class DefaultRecordReaderWriterFactory implements RecordReaderFactory, Re
 
     private final GenericData data;
 
+    private final DatumCache<Schema, GenericDatumReader<GenericData.Record>> readers =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+    private final DatumCache<Schema, GenericDatumWriter<GenericData.Record>> writers =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+    private final DatumCache<Class<?>, SpecificDatumReader<?>> specificReaders =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+    private final DatumCache<Class<?>, SpecificDatumWriter<?>> specificWriters =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+
     DefaultRecordReaderWriterFactory(final Conversion<?>... additional) {
-        data = GenericData.get();
+        /* Owned by this factory alone, keeping its conversions from leaking into the JVM-wide GenericData.get() */
+        data = new GenericData();
         for (final Conversion<?> conversion : additional) {
             data.addLogicalTypeConversion(conversion);
         }
     }
 
+    /**
+     * @return the {@link GenericData} backing every produced {@link GenericDatumReader Reader} and {@link GenericDatumWriter Writer}.
+     */
+    public GenericData getData() {
+        return data;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends SpecificRecord> SpecificDatumReader<T> produceReader(final Class<T> type) {
-        return new SpecificDatumReader<>(type);
+        return (SpecificDatumReader<T>) specificReaders.get(type, key -> new SpecificDatumReader<>(type));
     }
 
     @Override
     public GenericDatumReader<GenericData.Record> produceReader(final Schema schema) {
-        return new GenericDatumReader<>(schema, schema, data);
+        return readers.get(schema, key -> new GenericDatumReader<>(key, key, data));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends SpecificRecord> SpecificDatumWriter<T> produceWriter(final Class<T> type) {
-        return new SpecificDatumWriter<>(type);
+        return (SpecificDatumWriter<T>) specificWriters.get(type, key -> new SpecificDatumWriter<>(type));
     }
 
     @Override
     public GenericDatumWriter<GenericData.Record> produceWriter(final Schema schema) {
-        return new GenericDatumWriter<>(schema, data);
+        return writers.get(schema, key -> new GenericDatumWriter<>(key, data));
     }
 }
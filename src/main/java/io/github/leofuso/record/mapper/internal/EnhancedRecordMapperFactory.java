@@ -1,19 +1,69 @@
 package io.github.leofuso.record.mapper.internal;
 
+import io.github.leofuso.record.mapper.EnhancementMetrics;
+import io.github.leofuso.record.mapper.EnhancementStatus;
 import io.github.leofuso.record.mapper.RecordMapperFactory;
 
 import org.apache.avro.Conversion;
+import org.apache.avro.generic.GenericData;
 
 import io.github.leofuso.record.mapper.RecordMapper;
+import io.github.leofuso.record.mapper.instrument.InterceptorMetrics;
+import io.github.leofuso.record.mapper.instrument.bytecode.LogicalTypeConversionEnhancement;
+import io.github.leofuso.record.mapper.instrument.interceptor.VarHandleDecoderAccess;
 
 import com.fasterxml.jackson.databind.json.JsonMapper;
 
 public class EnhancedRecordMapperFactory implements RecordMapperFactory {
 
+    private static final boolean byteBuddy = isPresent("net.bytebuddy.ByteBuddy");
+
+    /**
+     * @return whether any enhancement is available: the byte code one, if ByteBuddy is present, or the lite one.
+     */
+    public static boolean isAvailable() {
+        return byteBuddy || VarHandleDecoderAccess.INSTANCE.status().isActive();
+    }
+
+    /**
+     * @return the {@link EnhancementStatus status} of the, once per JVM, enhancement; the lite enhancement steps in whenever the
+     * byte code one is either unavailable or failed.
+     */
+    public static EnhancementStatus enhancement() {
+        if (!byteBuddy) {
+            return VarHandleDecoderAccess.INSTANCE.status();
+        }
+        final EnhancementStatus status = LogicalTypeConversionEnhancement.enhance();
+        if (status.isActive()) {
+            return status;
+        }
+        final EnhancementStatus lite = VarHandleDecoderAccess.INSTANCE.status();
+        return lite.isActive() ? lite : status;
+    }
+
+    /**
+     * @return a snapshot of the {@link EnhancementMetrics metrics} of every interceptor.
+     */
+    public static EnhancementMetrics metrics() {
+        return InterceptorMetrics.snapshot();
+    }
+
+    private static boolean isPresent(final String type) {
+        try {
+            Class.forName(type);
+            return true;
+        } catch (ClassNotFoundException ignored) {
+            return false;
+        }
+    }
+
     @Override
     public RecordMapper produce(Conversion<?>... additional) {
+        /* Applied once per JVM, guarded; ahead of any decoder the produced Readers read from */
+        enhancement();
         final JsonMapper mapper = JsonMapperFactory.getInstance();
         final EnhancedRecordReaderWriterFactory factory = new EnhancedRecordReaderWriterFactory(additional);
-        return new DefaultRecordMapper(mapper, factory, factory);
+        final GenericData data = factory.getData();
+        return new DefaultRecordMapper(mapper, data, true, factory, factory);
     }
 }
@@ -15,17 +15,24 @@ import org.apache.avro.specific.SpecificRecord;
 
 import io.github.leofuso.record.mapper.RecordReaderFactory;
 import io.github.leofuso.record.mapper.RecordWriterFactory;
-import io.github.leofuso.record.mapper.instrument.bytecode.LogicalTypeConversionEnhancement;
 
 public class EnhancedRecordReaderWriterFactory implements RecordReaderFactory, RecordWriterFactory {
 
     private final GenericData data;
 
-    EnhancedRecordReaderWriterFactory(Conversion<?>... additional) {
+    private final DatumCache<Schema, GenericDatumReader<GenericData.Record>> readers =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+    private final DatumCache<Schema, GenericDatumWriter<GenericData.Record>> writers =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+    private final DatumCache<Class<?>, SpecificDatumReader<?>> specificReaders =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+    private final DatumCache<Class<?>, SpecificDatumWriter<?>> specificWriters =
+            new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
 
-        LogicalTypeConversionEnhancement.enhance();
+    EnhancedRecordReaderWriterFactory(Conversion<?>... additional) {
 
-        data = GenericData.get();
+        /* Owned by this factory alone, keeping its conversions from leaking into the JVM-wide GenericData.get() */
+        data = new GenericData();
         data.addLogicalTypeConversion(new EnhancedDecimalConversion());
         data.addLogicalTypeConversion(new Conversions.UUIDConversion());
         data.addLogicalTypeConversion(new EnhancedTimeConversions.DateConversion());
@@ -41,23 +48,32 @@ public class EnhancedRecordReaderWriterFactory implements RecordReaderFactory, R
         }
     }
 
+    /**
+     * @return the {@link GenericData} backing every produced {@link GenericDatumReader Reader} and {@link GenericDatumWriter Writer}.
+     */
+    public GenericData getData() {
+        return data;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends SpecificRecord> SpecificDatumReader<T> produceReader(final Class<T> type) {
-        return new SpecificDatumReader<>(type);
+        return (SpecificDatumReader<T>) specificReaders.get(type, key -> new SpecificDatumReader<>(type));
     }
 
     @Override
     public GenericDatumReader<GenericData.Record> produceReader(final Schema schema) {
-        return new EnhancedGenericDatumReader<>(schema, schema, data);
+        return readers.get(schema, key -> new EnhancedGenericDatumReader<>(key, key, data));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends SpecificRecord> SpecificDatumWriter<T> produceWriter(final Class<T> type) {
-        return new SpecificDatumWriter<>(type);
+        return (SpecificDatumWriter<T>) specificWriters.get(type, key -> new SpecificDatumWriter<>(type));
     }
 
     @Override
     public GenericDatumWriter<GenericData.Record> produceWriter(final Schema schema) {
-        return new GenericDatumWriter<>(schema, data);
+        return writers.get(schema, key -> new GenericDatumWriter<>(key, data));
     }
 }
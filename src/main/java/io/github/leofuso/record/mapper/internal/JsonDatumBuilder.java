@@ -0,0 +1,217 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.leofuso.record.mapper.RecordMapper.AvroMappingException;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversion;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.util.Utf8;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Builds {@link Schema Schema-compatible} records straight from a {@code JSON} token stream, guided by a {@link Schema}. No
+ * intermediary tree is built, and the {@code JSON} is never re-stringified nor re-parsed.
+ * <p>
+ * Values are handed over in their logical representation, using the {@link Conversion conversions} registered in the
+ * {@link GenericData}. If the model, e.g. a {@link org.apache.avro.specific.SpecificData SpecificData}, has no representation for a
+ * logical type, its raw value is handed over instead. Unknown fields are skipped, duplicated ones fail with an
+ * {@link AvroTypeException}, and unions are accepted both wrapped, e.g. {@code {"string": "value"}}, and unwrapped.
+ * <p>
+ * A {@code null}, or missing, value is only accepted for nullable fields and, on <i>Enhanced</i> mappers, for {@code int},
+ * {@code long} and {@code bytes} logical-typed ones, and left {@code null}; any other field fails with an {@link AvroTypeException}.
+ */
+public class JsonDatumBuilder extends AbstractJsonDatumReader {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    JsonDatumBuilder(final SchemaPlanner planner) {
+        super(planner);
+    }
+
+    /**
+     * Reads the next {@code JSON} value available in the {@link JsonParser}.
+     */
+    public Object read(final JsonParser parser, final Schema schema) throws IOException {
+        if (!parser.hasCurrentToken()) {
+            parser.nextToken();
+        }
+        return doRead(parser, plan(schema));
+    }
+
+    /**
+     * Reads the next {@code JSON} value available in the {@link JsonParser}, reusing the {@code reuse} record instance, if
+     * compatible. Every field of a reused record is overwritten, missing ones with {@code null}.
+     */
+    public Object read(final JsonParser parser, final Schema schema, final Object reuse) throws IOException {
+        if (!parser.hasCurrentToken()) {
+            parser.nextToken();
+        }
+        final SchemaPlan plan = plan(schema);
+        if (reuse == null || plan.type != Schema.Type.RECORD) {
+            return doRead(parser, plan);
+        }
+        expect(parser, JsonToken.START_OBJECT, schema);
+        parser.nextToken();
+        return convert(readFields(parser, plan, reuse), plan);
+    }
+
+    private Object doRead(final JsonParser parser, final SchemaPlan plan) throws IOException {
+        return switch (plan.type) {
+            case RECORD -> {
+                expect(parser, JsonToken.START_OBJECT, plan.schema);
+                parser.nextToken();
+                yield convert(readFields(parser, plan, null), plan);
+            }
+            case MAP -> {
+                expect(parser, JsonToken.START_OBJECT, plan.schema);
+                parser.nextToken();
+                yield convert(readEntries(parser, plan), plan);
+            }
+            case ARRAY -> convert(readArray(parser, plan), plan);
+            case UNION -> readUnion(parser, plan);
+            default -> readScalar(parser, plan);
+        };
+    }
+
+    private Object readScalar(final JsonParser parser, final SchemaPlan plan) throws IOException {
+        final Conversion<Object> conversion = plan.conversion;
+        final Object value = readScalar(parser, plan, conversion);
+        if (!plan.raw) {
+            return value;
+        }
+        return Conversions.convertToRawType(value, plan.schema, plan.schema.getLogicalType(), conversion);
+    }
+
+    private Object readFields(final JsonParser parser, final SchemaPlan plan, final Object reuse) throws IOException {
+        final Schema schema = plan.schema;
+        final GenericData model = model();
+        final Object record = model.newRecord(reuse, schema);
+
+        final SchemaPlan[] fields = plan.fields;
+        final boolean[] seen = new boolean[fields.length];
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+
+            final String name = parser.currentName();
+            parser.nextToken();
+
+            final Schema.Field field = schema.getField(name);
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            final int position = field.pos();
+            if (seen[position]) {
+                throw duplicated(name, schema);
+            }
+            setField(model, record, field, doRead(parser, fields[position]));
+            seen[position] = true;
+        }
+        expect(parser, JsonToken.END_OBJECT, schema);
+
+        for (int position = 0; position < fields.length; position++) {
+            if (seen[position]) {
+                continue;
+            }
+            final Schema.Field field = schema.getFields().get(position);
+            if (!fields[position].acceptsNull()) {
+                throw new AvroTypeException("Missing value for non-nullable field [%s]".formatted(field.name()));
+            }
+            if (record == reuse) {
+                /* Overwrites whatever the reused record held */
+                setField(model, record, field, null);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Sets the field value, failing with an {@link AvroMappingException} if the record can't hold it, e.g. a {@code null} on a
+     * primitive field of a {@link org.apache.avro.specific.SpecificRecord SpecificRecord}.
+     */
+    private static void setField(final GenericData model, final Object record, final Schema.Field field, final Object value) {
+        try {
+            model.setField(record, field.name(), field.pos(), value);
+        } catch (final NullPointerException | ClassCastException e) {
+            throw new AvroMappingException("Unable to set field [%s].".formatted(field.name()), e);
+        }
+    }
+
+    private Map<Object, Object> readEntries(final JsonParser parser, final SchemaPlan plan) throws IOException {
+        final SchemaPlan valuePlan = plan.element;
+        final boolean javaString = plan.javaString;
+
+        final Map<Object, Object> map = new HashMap<>();
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final String name = parser.currentName();
+            final Object key = javaString ? name : new Utf8(name);
+            parser.nextToken();
+            map.put(key, doRead(parser, valuePlan));
+        }
+        expect(parser, JsonToken.END_OBJECT, plan.schema);
+        return map;
+    }
+
+    private List<Object> readArray(final JsonParser parser, final SchemaPlan plan) throws IOException {
+        expect(parser, JsonToken.START_ARRAY, plan.schema);
+
+        final SchemaPlan elementPlan = plan.element;
+        final GenericData.Array<Object> array = new GenericData.Array<>(DEFAULT_CAPACITY, plan.schema);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            array.add(doRead(parser, elementPlan));
+        }
+        return array;
+    }
+
+    private Object readUnion(final JsonParser parser, final SchemaPlan plan) throws IOException {
+        final Schema union = plan.schema;
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+
+            final JsonToken token = parser.nextToken();
+            if (token == JsonToken.FIELD_NAME) {
+                final Integer index = union.getIndexNamed(parser.currentName());
+                if (index != null) {
+                    /* Canonical wrapped form, e.g. {"string": "value"} */
+                    parser.nextToken();
+                    final Object value = doRead(parser, plan.branches[index]);
+                    parser.nextToken();
+                    expect(parser, JsonToken.END_OBJECT, union);
+                    return value;
+                }
+            }
+
+            /* Unwrapped record or map, already past its START_OBJECT */
+            final int index = resolveBranch(parser, plan);
+            if (index < 0) {
+                throw expected(union, JsonToken.START_OBJECT);
+            }
+            final SchemaPlan branch = plan.branches[index];
+            if (branch.type == Schema.Type.RECORD) {
+                return convert(readFields(parser, branch, null), branch);
+            }
+            return convert(readEntries(parser, branch), branch);
+        }
+
+        final int index = resolveBranch(parser, plan);
+        if (index < 0) {
+            throw expected(union, parser.currentToken());
+        }
+        return doRead(parser, plan.branches[index]);
+    }
+
+    /**
+     * Applies the registered {@link Conversion}, if any, to complex values, through the plan's {@link SchemaPlan#converter converter}.
+     */
+    private static Object convert(final Object value, final SchemaPlan plan) {
+        return plan.converter.convert(value);
+    }
+}
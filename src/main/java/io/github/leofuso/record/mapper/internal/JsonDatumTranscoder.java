@@ -0,0 +1,330 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversion;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.io.EncoderFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Transcodes a {@code JSON} token stream straight into Avro binary, guided by a {@link Schema}. No intermediary tree, String or
+ * {@link GenericData.Record} is ever built.
+ * <p>
+ * Fields are written as soon as they arrive in {@link Schema} order; out-of-order fields are encoded ahead and held until their turn.
+ * Missing fields are written as {@code null}, if the field is nullable, unknown ones are skipped, and duplicated ones fail with an
+ * {@link AvroTypeException}. Unions are accepted both wrapped, e.g. {@code {"string": "value"}}, and unwrapped. Scalars with no
+ * logical type are written as primitives, never boxed.
+ * <p>
+ * A {@code null}, or missing, value the {@link JsonDatumBuilder} would accept for a non-nullable logical-typed field still fails
+ * with an {@link AvroTypeException}, as the binary encoding has no {@code null} for it.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class JsonDatumTranscoder extends AbstractJsonDatumReader {
+
+    private final List<Scratch> scratches = new ArrayList<>();
+
+    JsonDatumTranscoder(final SchemaPlanner planner) {
+        super(planner);
+    }
+
+    /**
+     * Transcodes the next {@code JSON} value available in the {@link JsonParser} into the {@link Encoder}.
+     */
+    public void write(final JsonParser parser, final Schema schema, final Encoder out) throws IOException {
+        if (!parser.hasCurrentToken()) {
+            parser.nextToken();
+        }
+        write(parser, plan(schema), out, 0);
+    }
+
+    private void write(final JsonParser parser, final SchemaPlan plan, final Encoder out, final int depth) throws IOException {
+        switch (plan.type) {
+            case RECORD -> {
+                expect(parser, JsonToken.START_OBJECT, plan.schema);
+                parser.nextToken();
+                writeFields(parser, plan, out, depth);
+            }
+            case MAP -> {
+                expect(parser, JsonToken.START_OBJECT, plan.schema);
+                parser.nextToken();
+                writeEntries(parser, plan, out, depth);
+            }
+            case ARRAY -> writeArray(parser, plan, out, depth);
+            case UNION -> writeUnion(parser, plan, out, depth);
+            default -> writeScalar(parser, plan, out);
+        }
+    }
+
+    private void writeFields(final JsonParser parser, final SchemaPlan plan, final Encoder out, final int depth) throws IOException {
+        final Schema schema = plan.schema;
+        final SchemaPlan[] fields = plan.fields;
+
+        byte[][] pending = null;
+        int next = 0;
+
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+
+            final String name = parser.currentName();
+            parser.nextToken();
+
+            final Schema.Field field = schema.getField(name);
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            final int position = field.pos();
+            if (position < next || pending != null && pending[position] != null) {
+                throw duplicated(name, schema);
+            }
+            if (position == next) {
+                write(parser, fields[position], out, depth + 1);
+                next = flush(pending, next + 1, out);
+            } else {
+                if (pending == null) {
+                    pending = new byte[fields.length][];
+                }
+                final Scratch scratch = scratch(depth);
+                write(parser, fields[position], scratch.encoder, depth + 1);
+                pending[position] = scratch.toByteArray();
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT, schema);
+
+        for (int position = next; position < fields.length; position++) {
+            if (pending != null && pending[position] != null) {
+                out.writeFixed(pending[position]);
+            } else {
+                writeMissing(schema.getFields().get(position), fields[position], out);
+            }
+        }
+    }
+
+    private static int flush(final byte[][] pending, final int next, final Encoder out) throws IOException {
+        if (pending == null) {
+            return next;
+        }
+        int position = next;
+        while (position < pending.length && pending[position] != null) {
+            out.writeFixed(pending[position]);
+            position++;
+        }
+        return position;
+    }
+
+    private static void writeMissing(final Schema.Field field, final SchemaPlan plan, final Encoder out) throws IOException {
+        if (plan.acceptsNull() && !plan.nullable()) {
+            throw unencodable(plan);
+        }
+        if (!plan.nullable()) {
+            throw new AvroTypeException("Missing value for non-nullable field [%s]".formatted(field.name()));
+        }
+        if (plan.type == Schema.Type.UNION) {
+            out.writeIndex(plan.nullIndex);
+        }
+        out.writeNull();
+    }
+
+    /**
+     * A {@code null} accepted by the {@link SchemaPlan#acceptsNull() plan}, but with no binary representation, as only a
+     * {@code null} Schema can encode it.
+     */
+    private static AvroTypeException unencodable(final SchemaPlan plan) {
+        final String message = "Unable to encode a null value of logical type [%s]; only nullable Schemas can hold it.";
+        return new AvroTypeException(message.formatted(plan.schema.getLogicalType().getName()));
+    }
+
+    private void writeEntries(final JsonParser parser, final SchemaPlan plan, final Encoder out, final int depth) throws IOException {
+        final SchemaPlan valuePlan = plan.element;
+        final Scratch scratch = scratch(depth);
+
+        long count = 0;
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            scratch.encoder.writeString(parser.currentName());
+            parser.nextToken();
+            write(parser, valuePlan, scratch.encoder, depth + 1);
+            count++;
+        }
+        expect(parser, JsonToken.END_OBJECT, plan.schema);
+
+        /* All entries are written as a single block, as a DatumWriter would */
+        out.writeMapStart();
+        out.setItemCount(count);
+        scratch.writeTo(out);
+        out.writeMapEnd();
+    }
+
+    private void writeArray(final JsonParser parser, final SchemaPlan plan, final Encoder out, final int depth) throws IOException {
+        expect(parser, JsonToken.START_ARRAY, plan.schema);
+
+        final SchemaPlan elementPlan = plan.element;
+        final Scratch scratch = scratch(depth);
+
+        long count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            write(parser, elementPlan, scratch.encoder, depth + 1);
+            count++;
+        }
+
+        /* All items are written as a single block, as a DatumWriter would */
+        out.writeArrayStart();
+        out.setItemCount(count);
+        scratch.writeTo(out);
+        out.writeArrayEnd();
+    }
+
+    private void writeUnion(final JsonParser parser, final SchemaPlan plan, final Encoder out, final int depth) throws IOException {
+        final Schema union = plan.schema;
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+
+            final JsonToken token = parser.nextToken();
+            if (token == JsonToken.FIELD_NAME) {
+                final Integer index = union.getIndexNamed(parser.currentName());
+                if (index != null) {
+                    /* Canonical wrapped form, e.g. {"string": "value"} */
+                    parser.nextToken();
+                    out.writeIndex(index);
+                    write(parser, plan.branches[index], out, depth);
+                    parser.nextToken();
+                    expect(parser, JsonToken.END_OBJECT, union);
+                    return;
+                }
+            }
+
+            /* Unwrapped record or map, already past its START_OBJECT */
+            final int index = resolveBranch(parser, plan);
+            if (index < 0) {
+                throw expected(union, JsonToken.START_OBJECT);
+            }
+            final SchemaPlan branch = plan.branches[index];
+            out.writeIndex(index);
+            if (branch.type == Schema.Type.RECORD) {
+                writeFields(parser, branch, out, depth);
+            } else {
+                writeEntries(parser, branch, out, depth);
+            }
+            return;
+        }
+
+        final int index = resolveBranch(parser, plan);
+        if (index < 0) {
+            throw expected(union, parser.currentToken());
+        }
+        out.writeIndex(index);
+        write(parser, plan.branches[index], out, depth);
+    }
+
+    private void writeScalar(final JsonParser parser, final SchemaPlan plan, final Encoder out) throws IOException {
+        final JsonToken token = parser.currentToken();
+        final Schema schema = plan.schema;
+        final Schema.Type type = plan.type;
+        if (token == JsonToken.VALUE_NULL) {
+            if (plan.acceptsNull() && type != Schema.Type.NULL) {
+                throw unencodable(plan);
+            }
+            if (type != Schema.Type.NULL) {
+                throw expected(schema, token);
+            }
+            out.writeNull();
+            return;
+        }
+
+        final Conversion<Object> conversion = plan.conversion;
+        if (conversion != null) {
+            final Object value = readScalar(parser, plan, conversion);
+            final Object raw = Conversions.convertToRawType(value, schema, schema.getLogicalType(), conversion);
+            writeRaw(raw, schema, out);
+            return;
+        }
+
+        switch (type) {
+            case INT -> {
+                if (!token.isNumeric()) {
+                    throw expected(schema, token);
+                }
+                out.writeInt(parser.getIntValue());
+            }
+            case LONG -> {
+                if (!token.isNumeric()) {
+                    throw expected(schema, token);
+                }
+                out.writeLong(parser.getLongValue());
+            }
+            case FLOAT -> out.writeFloat(readFloat(parser, schema));
+            case DOUBLE -> out.writeDouble(readDouble(parser, schema));
+            case BOOLEAN -> out.writeBoolean(readBoolean(parser, schema));
+            case STRING -> {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw expected(schema, token);
+                }
+                out.writeString(parser.getText());
+            }
+            case BYTES -> {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw expected(schema, token);
+                }
+                out.writeBytes(parser.getText().getBytes(StandardCharsets.ISO_8859_1));
+            }
+            default -> {
+                final Object raw = readScalar(parser, plan, null);
+                writeRaw(raw, schema, out);
+            }
+        }
+    }
+
+    private static void writeRaw(final Object raw, final Schema schema, final Encoder out) throws IOException {
+        final Schema.Type type = schema.getType();
+        if (raw == null) {
+            throw new AvroTypeException("Expected " + type.getName() + ". Got null");
+        }
+        switch (type) {
+            case INT -> out.writeInt((Integer) raw);
+            case LONG -> out.writeLong((Long) raw);
+            case FLOAT -> out.writeFloat((Float) raw);
+            case DOUBLE -> out.writeDouble((Double) raw);
+            case BOOLEAN -> out.writeBoolean((Boolean) raw);
+            case STRING -> out.writeString((CharSequence) raw);
+            case BYTES -> out.writeBytes((ByteBuffer) raw);
+            case FIXED -> out.writeFixed(((GenericFixed) raw).bytes());
+            case ENUM -> out.writeEnum(schema.getEnumOrdinal(raw.toString()));
+            default -> throw new AvroTypeException("Unexpected scalar type: " + type.getName());
+        }
+    }
+
+    private Scratch scratch(final int depth) {
+        while (scratches.size() <= depth) {
+            scratches.add(new Scratch());
+        }
+        final Scratch scratch = scratches.get(depth);
+        scratch.reset();
+        return scratch;
+    }
+
+    /**
+     * A reusable, per-depth, buffer for values whose binary form must be known before being written, e.g. array items, that need
+     * to be preceded by their count.
+     */
+    private static final class Scratch extends ByteArrayOutputStream {
+
+        private final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(this, null);
+
+        private void writeTo(final Encoder out) throws IOException {
+            out.writeFixed(buf, 0, count);
+        }
+    }
+}
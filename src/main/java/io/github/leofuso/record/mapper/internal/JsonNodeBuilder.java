@@ -0,0 +1,161 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversion;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.specific.SpecificRecordBase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds a {@link JsonNode} tree straight from a {@link Schema Schema-compatible} datum, guided by its {@link Schema}, without
+ * encoding it to {@code JSON} and parsing it back.
+ * <p>
+ * The tree matches the one a {@link org.apache.avro.io.NoWrappingJsonEncoder NoWrappingJsonEncoder} output would be parsed into:
+ * unions are unwrapped, {@code bytes} and {@code fixed} values are rendered as {@code ISO-8859-1} strings, and logical values are
+ * written in their raw form, using the {@link Conversion conversions} registered in the {@link GenericData}.
+ */
+public class JsonNodeBuilder {
+
+    private final GenericData data;
+    private final JsonNodeFactory nodeFactory;
+
+    JsonNodeBuilder(final GenericData data, final JsonNodeFactory nodeFactory) {
+        this.data = Objects.requireNonNull(data, GenericData.class.getSimpleName() + " [data] is required.");
+        this.nodeFactory = Objects.requireNonNull(nodeFactory, JsonNodeFactory.class.getSimpleName() + " [nodeFactory] is required.");
+    }
+
+    /**
+     * Builds the {@link JsonNode} tree of the {@code datum}.
+     */
+    public JsonNode build(final Object datum, final Schema schema) {
+        final LogicalType type = schema.getLogicalType();
+        if (datum != null && type != null) {
+            final Conversion<?> conversion = data.getConversionByClass(datum.getClass(), type);
+            return buildWithoutConversion(convert(datum, schema, type, conversion), schema);
+        }
+        return buildWithoutConversion(datum, schema);
+    }
+
+    private JsonNode buildWithoutConversion(final Object datum, final Schema schema) {
+        final Schema.Type type = schema.getType();
+        if (type == Schema.Type.UNION) {
+            final int index = data.resolveUnion(schema, datum);
+            return build(datum, schema.getTypes().get(index));
+        }
+        if (type == Schema.Type.NULL) {
+            return nodeFactory.nullNode();
+        }
+        if (datum == null) {
+            throw new AvroTypeException("Expected " + type.getName() + ". Got null");
+        }
+        return switch (type) {
+            case RECORD -> buildFields(datum, schema);
+            case MAP -> buildEntries((Map<?, ?>) datum, schema);
+            case ARRAY -> buildArray((Collection<?>) datum, schema);
+            case INT -> nodeFactory.numberNode(((Number) datum).intValue());
+            case LONG -> {
+                final long value = ((Number) datum).longValue();
+                final int narrowed = (int) value;
+                yield narrowed == value ? nodeFactory.numberNode(narrowed) : nodeFactory.numberNode(value);
+            }
+            case FLOAT -> {
+                /* Rendered, and parsed back, from its shortest decimal form */
+                final float value = ((Number) datum).floatValue();
+                yield Float.isFinite(value)
+                        ? nodeFactory.numberNode(Double.parseDouble(Float.toString(value)))
+                        : nodeFactory.textNode(Float.toString(value));
+            }
+            case DOUBLE -> {
+                final double value = ((Number) datum).doubleValue();
+                yield Double.isFinite(value) ? nodeFactory.numberNode(value) : nodeFactory.textNode(Double.toString(value));
+            }
+            case BOOLEAN -> nodeFactory.booleanNode((Boolean) datum);
+            case STRING -> nodeFactory.textNode(datum.toString());
+            case BYTES -> {
+                final ByteBuffer buffer = ((ByteBuffer) datum).duplicate();
+                final byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                yield nodeFactory.textNode(new String(bytes, StandardCharsets.ISO_8859_1));
+            }
+            case FIXED -> {
+                final byte[] bytes = ((GenericFixed) datum).bytes();
+                final int size = schema.getFixedSize();
+                if (bytes.length != size) {
+                    throw new AvroTypeException("Incorrect length for fixed binary: expected " + size + " but received " + bytes.length
+                            + " bytes.");
+                }
+                yield nodeFactory.textNode(new String(bytes, StandardCharsets.ISO_8859_1));
+            }
+            case ENUM -> {
+                final String symbol = datum.toString();
+                if (!schema.hasEnumSymbol(symbol)) {
+                    throw new AvroTypeException("Unknown symbol in enum " + schema.getFullName() + ": " + symbol);
+                }
+                yield nodeFactory.textNode(symbol);
+            }
+            default -> throw new AvroTypeException("Unexpected type: " + type.getName());
+        };
+    }
+
+    private ObjectNode buildFields(final Object record, final Schema schema) {
+        final ObjectNode node = nodeFactory.objectNode();
+        final List<Schema.Field> fields = schema.getFields();
+        for (final Schema.Field field : fields) {
+            final String name = field.name();
+            final int position = field.pos();
+            final Schema fieldSchema = field.schema();
+            final Object value = data.getField(record, name, position);
+
+            /* Generated classes may declare their own Conversions, as a SpecificDatumWriter would honor */
+            final Conversion<?> conversion = record instanceof SpecificRecordBase specific ? specific.getConversion(position) : null;
+            final LogicalType type = fieldSchema.getLogicalType();
+            if (conversion != null && type != null) {
+                node.set(name, buildWithoutConversion(convert(value, fieldSchema, type, conversion), fieldSchema));
+            } else {
+                node.set(name, build(value, fieldSchema));
+            }
+        }
+        return node;
+    }
+
+    private ObjectNode buildEntries(final Map<?, ?> map, final Schema schema) {
+        final Schema valueType = schema.getValueType();
+        final ObjectNode node = nodeFactory.objectNode();
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            node.set(entry.getKey().toString(), build(entry.getValue(), valueType));
+        }
+        return node;
+    }
+
+    private ArrayNode buildArray(final Collection<?> array, final Schema schema) {
+        final Schema elementType = schema.getElementType();
+        final ArrayNode node = nodeFactory.arrayNode(array.size());
+        for (final Object element : array) {
+            node.add(build(element, elementType));
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(final Object datum, final Schema schema, final LogicalType type, final Conversion<?> conversion) {
+        if (conversion == null || datum == null) {
+            return datum;
+        }
+        return Conversions.convertToRawType(datum, schema, type, (Conversion<Object>) conversion);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.leofuso.record.mapper.internal;
+
+import io.github.leofuso.record.mapper.instrument.RelaxedConverter;
+
+import org.apache.avro.Conversion;
+import org.apache.avro.Schema;
+
+/**
+ * A compiled view of a {@link Schema} node, holding everything a {@link AbstractJsonDatumReader reader} would otherwise look up on
+ * every value, e.g. the resolved {@link Conversion}, the child plans by field position and the union's {@code null} branch.
+ * <p>
+ * Plans are produced by a {@link SchemaPlanner}, and are immutable once published. Recursive schemas yield cyclic plans.
+ */
+final class SchemaPlan {
+
+    final Schema schema;
+    final Schema.Type type;
+
+    /**
+     * The {@link Conversion} bound to this node's {@link org.apache.avro.LogicalType LogicalType}, if any.
+     */
+    final Conversion<Object> conversion;
+
+    /**
+     * The {@link RelaxedConverter} resolved for the {@link #conversion}, shared with the <i>Enhanced</i> Readers; or
+     * {@link RelaxedConverter#NONE}, if there's none.
+     */
+    final RelaxedConverter converter;
+
+    /**
+     * Whether values bound through the {@link #conversion} must be handed over in their raw form, as the model has no
+     * representation for them.
+     */
+    final boolean raw;
+
+    /**
+     * Whether {@code string} values, or {@code map} keys, are represented as {@link String} instead of
+     * {@link org.apache.avro.util.Utf8 Utf8}.
+     */
+    final boolean javaString;
+
+    /**
+     * Whether values may be bound in a relaxed manner, as the <i>Enhanced</i> reads do, e.g. a {@code long} given as an
+     * {@code ISO-8601} CharSequence. Only set by planners producing plans for <i>Enhanced</i> mappers.
+     */
+    final boolean relaxed;
+
+    /**
+     * Field plans, by position. Only present on {@code record} nodes.
+     */
+    SchemaPlan[] fields;
+
+    /**
+     * The element plan, for {@code array} nodes, or the value plan, for {@code map} nodes.
+     */
+    SchemaPlan element;
+
+    /**
+     * Branch plans, by index. Only present on {@code union} nodes.
+     */
+    SchemaPlan[] branches;
+
+    /**
+     * The index of the {@code null} branch, on {@code union} nodes, or {@code -1}.
+     */
+    int nullIndex = -1;
+
+    SchemaPlan(
+            final Schema schema,
+            final Conversion<Object> conversion,
+            final boolean raw,
+            final boolean javaString,
+            final boolean relaxed
+    ) {
+        this.schema = schema;
+        this.type = schema.getType();
+        this.conversion = conversion;
+        this.converter = RelaxedConverter.of(schema, conversion);
+        this.raw = raw;
+        this.javaString = javaString;
+        this.relaxed = relaxed;
+    }
+
+    /**
+     * @return whether values for this node can be bound in a relaxed manner, i.e. it's {@link #relaxed} and has a
+     *         {@link #conversion} to bind them through.
+     */
+    boolean relaxes() {
+        return relaxed && conversion != null;
+    }
+
+    /**
+     * @return whether a missing value for this node can be written as {@code null}.
+     */
+    boolean nullable() {
+        return type == Schema.Type.NULL || nullIndex >= 0;
+    }
+
+    /**
+     * @return whether a {@code null}, or missing, value for this node can be built as {@code null}. On top of the
+     *         {@link #nullable() nullable} nodes, the {@code int}, {@code long} and {@code bytes} ones that {@link #relaxes() relax}
+     *         are also accepted, as the <i>Enhanced</i> reads do.
+     */
+    boolean acceptsNull() {
+        if (nullable()) {
+            return true;
+        }
+        return relaxes() && switch (type) {
+            case INT, LONG, BYTES -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.leofuso.record.mapper.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.avro.Conversion;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Compiles, and caches, {@link SchemaPlan plans} for a pair of {@link GenericData} instances: the {@code data}, holding the
+ * {@link Conversion conversions} used to bind {@code JSON} values, and the {@code model}, used to instantiate records, enums and
+ * fixed values, e.g. a {@link org.apache.avro.specific.SpecificData SpecificData}.
+ * <p>
+ * Conversions registered in the {@code data} take precedence over the ones registered in the {@code model}. Planners are
+ * {@code relaxed} only if backing <i>Enhanced</i> mappers, binding values as the <i>Enhanced</i> reads do; otherwise, values are
+ * bound as strictly as the {@link org.apache.avro.io.JsonDecoder JsonDecoder} would.
+ * <p>
+ * Instances are thread-safe.
+ */
+final class SchemaPlanner {
+
+    private final GenericData data;
+    private final GenericData model;
+    private final boolean relaxed;
+
+    private final DatumCache<Schema, SchemaPlan> plans = new DatumCache<>(DatumCache.DEFAULT_MAXIMUM_SIZE);
+
+    SchemaPlanner(final GenericData data, final boolean relaxed) {
+        this(data, data, relaxed);
+    }
+
+    SchemaPlanner(final GenericData data, final GenericData model, final boolean relaxed) {
+        this.data = Objects.requireNonNull(data, GenericData.class.getSimpleName() + " [data] is required.");
+        this.model = Objects.requireNonNull(model, GenericData.class.getSimpleName() + " [model] is required.");
+        this.relaxed = relaxed;
+    }
+
+    GenericData data() {
+        return data;
+    }
+
+    GenericData model() {
+        return model;
+    }
+
+    boolean relaxed() {
+        return relaxed;
+    }
+
+    /**
+     * @return the, possibly cached, {@link SchemaPlan plan} for the {@link Schema}.
+     */
+    SchemaPlan plan(final Schema schema) {
+        return plans.get(schema, key -> compile(key, new IdentityHashMap<>()));
+    }
+
+    private SchemaPlan compile(final Schema schema, final Map<Schema, SchemaPlan> compiled) {
+        final SchemaPlan existing = compiled.get(schema);
+        if (existing != null) {
+            return existing;
+        }
+
+        final SchemaPlan plan = create(schema);
+        compiled.put(schema, plan);
+
+        switch (plan.type) {
+            case RECORD -> {
+                final List<Schema.Field> fields = schema.getFields();
+                plan.fields = new SchemaPlan[fields.size()];
+                for (final Schema.Field field : fields) {
+                    plan.fields[field.pos()] = compile(field.schema(), compiled);
+                }
+            }
+            case ARRAY -> plan.element = compile(schema.getElementType(), compiled);
+            case MAP -> plan.element = compile(schema.getValueType(), compiled);
+            case UNION -> {
+                final List<Schema> types = schema.getTypes();
+                plan.branches = new SchemaPlan[types.size()];
+                for (int i = 0; i < types.size(); i++) {
+                    final Schema branch = types.get(i);
+                    plan.branches[i] = compile(branch, compiled);
+                    if (branch.getType() == Schema.Type.NULL && plan.nullIndex < 0) {
+                        plan.nullIndex = i;
+                    }
+                }
+            }
+            default -> {
+                /* Scalars have no children */
+            }
+        }
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SchemaPlan create(final Schema schema) {
+        final boolean javaString = GenericData.StringType.String.name().equals(schema.getProp(GenericData.STRING_PROP));
+
+        final LogicalType type = schema.getLogicalType();
+        if (type == null) {
+            return new SchemaPlan(schema, null, false, javaString, relaxed);
+        }
+
+        final Conversion<?> modelled = model.getConversionFor(type);
+        final Conversion<?> conversion = data.getConversionFor(type);
+        if (conversion == null) {
+            return new SchemaPlan(schema, (Conversion<Object>) modelled, false, javaString, relaxed);
+        }
+        return new SchemaPlan(schema, (Conversion<Object>) conversion, modelled == null, javaString, relaxed);
+    }
+}
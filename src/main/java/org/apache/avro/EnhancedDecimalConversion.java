@@ -1,43 +1,43 @@
 package org.apache.avro;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.github.leofuso.record.mapper.exception.Throwables;
-
 public class EnhancedDecimalConversion extends Conversions.DecimalConversion {
 
     private static final Logger logger = LoggerFactory.getLogger(EnhancedDecimalConversion.class);
 
+    private final Map<LogicalTypes.Decimal, DecimalValidator> validators = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the {@code value} as a textual decimal, e.g. {@code "19.565"}, if it holds one; otherwise, as the two's-complement
+     * unscaled value of the default {@link Conversions.DecimalConversion DecimalConversion}. Told apart by a single scan, with no
+     * exception thrown to find it out.
+     */
     @Override
     public BigDecimal fromBytes(final ByteBuffer value, final Schema schema, final LogicalType type) {
         try {
 
-            final byte[] bytes = new byte[value.remaining()];
-            final ByteBuffer duplicated = value.duplicate();
-            duplicated.get(bytes);
-
-            final String possibleStringValue = new String(bytes, StandardCharsets.ISO_8859_1);
-            final BigDecimal decimal = new BigDecimal(possibleStringValue);
+            final BigDecimal decimal = DecimalScanner.scan(value);
+            if (decimal == null) {
+                final boolean traceEnabled = logger.isTraceEnabled();
+                if (traceEnabled) {
+                    logger.trace("ByteBuffer value does not parse to BigDecimal. Applying default DecimalConversion behavior.");
+                }
+                return super.fromBytes(value, schema, type);
+            }
 
-            doValidate((LogicalTypes.Decimal) type, decimal);
+            validator((LogicalTypes.Decimal) type).validate(decimal);
             return decimal;
 
-        } catch (final NumberFormatException ignored) {
-            final boolean traceEnabled = logger.isTraceEnabled();
-            if (traceEnabled) {
-                logger.trace("ByteBuffer value does not parse to BigDecimal. Applying default DecimalConversion behavior.");
-            }
-            return super.fromBytes(value, schema, type);
-        } catch (final InvocationTargetException e) {
-            Throwables.handleReflectionException(e);
-            return null; /* Unreacheable code */
+        } catch (final AvroTypeException e) {
+            throw e;
         } catch (final Exception e) {
             final String errorMessage = "Conversion failure while converting from Byte[] %s to BigDecimal Logical type.".formatted(value);
             throw new AvroTypeException(errorMessage, e);
@@ -49,12 +49,11 @@ public class EnhancedDecimalConversion extends Conversions.DecimalConversion {
         try {
 
             final BigDecimal decimal = BigDecimal.valueOf(value);
-            doValidate((LogicalTypes.Decimal) type, decimal);
+            validator((LogicalTypes.Decimal) type).validate(decimal);
             return decimal;
 
-        } catch (final InvocationTargetException e) {
-            Throwables.handleReflectionException(e);
-            return null; /* Unreacheable code */
+        } catch (final AvroTypeException e) {
+            throw e;
         } catch (final Exception e) {
             final String errorMessage = "Conversion failure while converting from Double %s to BigDecimal Logical type.".formatted(value);
             throw new AvroTypeException(errorMessage, e);
@@ -69,25 +68,171 @@ public class EnhancedDecimalConversion extends Conversions.DecimalConversion {
             final int scale = decimalType.getScale();
 
             final BigDecimal decimal = BigDecimal.valueOf(value, scale);
-            doValidate(decimalType, decimal);
+            validator(decimalType).validate(decimal);
             return decimal;
 
-        } catch (final InvocationTargetException e) {
-            Throwables.handleReflectionException(e);
-            return null; /* Unreacheable code */
+        } catch (final AvroTypeException e) {
+            throw e;
         } catch (final Exception e) {
             final String errorMessage = "Conversion failure while converting from Integer %s to BigDecimal Logical type.".formatted(value);
             throw new AvroTypeException(errorMessage, e);
         }
     }
 
-    private void doValidate(final LogicalTypes.Decimal type, final BigDecimal value) throws Exception {
-        final Method validate = Conversions.DecimalConversion.class.getDeclaredMethod(
-                "validate",
-                LogicalTypes.Decimal.class,
-                BigDecimal.class
-        );
-        validate.setAccessible(true);
-        validate.invoke(null, type, value);
+    private DecimalValidator validator(final LogicalTypes.Decimal type) {
+        return validators.computeIfAbsent(type, DecimalValidator::new);
+    }
+
+    /**
+     * Checks a {@link BigDecimal} against the precision and scale of a {@link LogicalTypes.Decimal}, just as
+     * {@link Conversions.DecimalConversion} does before encoding it, failing with the very same messages.
+     * <p>
+     * The scale is only ever adjusted if rounding may be needed; otherwise, the adjusted precision is worked out without building
+     * another {@link BigDecimal}.
+     */
+    private static final class DecimalValidator {
+
+        private final int precision;
+        private final int scale;
+
+        private DecimalValidator(final LogicalTypes.Decimal type) {
+            this.precision = type.getPrecision();
+            this.scale = type.getScale();
+        }
+
+        private void validate(final BigDecimal value) {
+            final int valueScale = value.scale();
+            if (valueScale == scale) {
+                final int valuePrecision = value.precision();
+                if (valuePrecision > precision) {
+                    throw new AvroTypeException(
+                            "Cannot encode decimal with precision " + valuePrecision + " as max precision " + precision
+                    );
+                }
+                return;
+            }
+
+            final int valuePrecision;
+            if (valueScale < scale) {
+                valuePrecision = value.signum() == 0 ? 1 : value.precision() + scale - valueScale;
+            } else {
+                try {
+                    valuePrecision = value.setScale(scale, RoundingMode.UNNECESSARY).precision();
+                } catch (final ArithmeticException e) {
+                    throw new AvroTypeException(
+                            "Cannot encode decimal with scale " + valueScale + " as scale " + scale + " without rounding"
+                    );
+                }
+            }
+
+            if (valuePrecision > precision) {
+                throw new AvroTypeException(
+                        "Cannot encode decimal with precision " + valuePrecision + " as max precision " + precision
+                                + ". This is after safely adjusting scale from " + valueScale + " to required " + scale
+                );
+            }
+        }
+    }
+
+    /**
+     * Tells, in a single pass over a {@link ByteBuffer}, whether it holds {@code ASCII} decimal text, as accepted by
+     * {@link BigDecimal#BigDecimal(String)}: an optional sign, digits with an optional fraction, and an optional exponent.
+     * <p>
+     * Values of up to 18 digits and no exponent are accumulated straight into an unscaled {@code long}; only longer, or exponent
+     * bearing, ones are handed to {@link BigDecimal#BigDecimal(String)}, once already known to parse. The buffer's position is
+     * left untouched.
+     */
+    private static final class DecimalScanner {
+
+        private static final int MAX_LONG_DIGITS = 18;
+
+        private DecimalScanner() {
+        }
+
+        /**
+         * @return the decimal the {@code value} holds as text, or {@code null} if it holds anything else.
+         */
+        private static BigDecimal scan(final ByteBuffer value) {
+            final int start = value.position();
+            final int end = value.limit();
+
+            int index = start;
+            boolean negative = false;
+            if (index < end && (value.get(index) == '-' || value.get(index) == '+')) {
+                negative = value.get(index) == '-';
+                index++;
+            }
+
+            long unscaled = 0;
+            int digits = 0;
+            int scale = 0;
+            boolean fraction = false;
+            for (; index < end; index++) {
+                final byte current = value.get(index);
+                if (current >= '0' && current <= '9') {
+                    unscaled = unscaled * 10 + (current - '0');
+                    digits++;
+                    if (fraction) {
+                        scale++;
+                    }
+                } else if (current == '.' && !fraction) {
+                    fraction = true;
+                } else {
+                    break;
+                }
+            }
+
+            if (digits == 0) {
+                return null;
+            }
+
+            if (index == end) {
+                if (digits <= MAX_LONG_DIGITS) {
+                    return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+                }
+                return parse(value, start, end);
+            }
+
+            final byte exponent = value.get(index++);
+            if (exponent != 'e' && exponent != 'E') {
+                return null;
+            }
+            boolean negativeExponent = false;
+            if (index < end && (value.get(index) == '-' || value.get(index) == '+')) {
+                negativeExponent = value.get(index) == '-';
+                index++;
+            }
+
+            if (index == end) {
+                return null;
+            }
+
+            long exponentValue = 0;
+            for (; index < end; index++) {
+                final byte current = value.get(index);
+                if (current < '0' || current > '9') {
+                    return null;
+                }
+                exponentValue = exponentValue * 10 + (current - '0');
+                if (exponentValue > Integer.MAX_VALUE) {
+                    return null;
+                }
+            }
+
+            /* Just as BigDecimal, refusing any scale out of the int range */
+            final long adjustedScale = scale - (negativeExponent ? -exponentValue : exponentValue);
+            if (adjustedScale < Integer.MIN_VALUE || adjustedScale > Integer.MAX_VALUE) {
+                return null;
+            }
+            return parse(value, start, end);
+        }
+
+        private static BigDecimal parse(final ByteBuffer value, final int start, final int end) {
+            final char[] chars = new char[end - start];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) value.get(start + i);
+            }
+            return new BigDecimal(chars);
+        }
     }
 }
@@ -14,7 +14,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public Instant fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return Instant.parse(value);
+            return IsoTemporalParser.parseInstant(value);
         }
     }
 
@@ -23,7 +23,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public Instant fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return Instant.parse(value);
+            return IsoTemporalParser.parseInstant(value);
         }
     }
 
@@ -32,7 +32,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public LocalTime fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return LocalTime.parse(value);
+            return IsoTemporalParser.parseTime(value);
         }
     }
 
@@ -41,7 +41,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public LocalTime fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return LocalTime.parse(value);
+            return IsoTemporalParser.parseTime(value);
         }
     }
 
@@ -50,7 +50,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public LocalDate fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return LocalDate.parse(value);
+            return IsoTemporalParser.parseDate(value);
         }
     }
 
@@ -59,7 +59,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public LocalDateTime fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return LocalDateTime.parse(value);
+            return IsoTemporalParser.parseLocalDateTime(value);
         }
     }
 
@@ -68,7 +68,7 @@ public class EnhancedTimeConversions extends TimeConversions {
 
         @Override
         public LocalDateTime fromCharSequence(final CharSequence value, final Schema schema, final LogicalType type) {
-            return LocalDateTime.parse(value);
+            return IsoTemporalParser.parseLocalDateTime(value);
         }
     }
 
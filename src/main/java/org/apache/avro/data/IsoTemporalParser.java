@@ -0,0 +1,226 @@
+package org.apache.avro.data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Parses the common, fixed-layout, {@code ISO-8601} shapes by hand, i.e., {@code yyyy-MM-dd}, {@code HH:mm[:ss[.fraction]]}, their
+ * {@code T}-joined combination, and the latter followed by either {@code Z} or a {@code ±HH:mm} offset.
+ * <p>
+ * Any other input, as well as any out-of-range field, is handed over to the JDK parsers, so unusual values are still accepted, and
+ * invalid ones still fail with the very same {@link java.time.format.DateTimeParseException DateTimeParseException}.
+ */
+final class IsoTemporalParser {
+
+    private static final int NOT_A_TIME = -1;
+
+    private static final int DATE_LENGTH = 10;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int[] NANOS_SCALE = {
+            1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private IsoTemporalParser() {
+    }
+
+    static LocalDate parseDate(final CharSequence value) {
+        if (value.length() == DATE_LENGTH && isDate(value, 0)) {
+            return LocalDate.of(year(value, 0), month(value, 0), day(value, 0));
+        }
+        return LocalDate.parse(value);
+    }
+
+    static LocalTime parseTime(final CharSequence value) {
+        final long time = time(value, 0, value.length(), false);
+        if (time == NOT_A_TIME) {
+            return LocalTime.parse(value);
+        }
+        return LocalTime.ofNanoOfDay(time);
+    }
+
+    static LocalDateTime parseLocalDateTime(final CharSequence value) {
+        final int length = value.length();
+        if (length > DATE_LENGTH && isDate(value, 0) && value.charAt(DATE_LENGTH) == 'T') {
+            final long time = time(value, DATE_LENGTH + 1, length, false);
+            if (time != NOT_A_TIME) {
+                final LocalDate date = LocalDate.of(year(value, 0), month(value, 0), day(value, 0));
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(time));
+            }
+        }
+        return LocalDateTime.parse(value);
+    }
+
+    static Instant parseInstant(final CharSequence value) {
+        final int length = value.length();
+        if (length > DATE_LENGTH && isDate(value, 0) && value.charAt(DATE_LENGTH) == 'T') {
+
+            final int offsetStart = offsetStart(value, length);
+            final int offset = offsetStart < 0 ? NOT_A_TIME : offset(value, offsetStart, length);
+            final long time = offset == NOT_A_TIME ? NOT_A_TIME : time(value, DATE_LENGTH + 1, offsetStart, true);
+            if (time != NOT_A_TIME) {
+                final long epochDay = epochDay(year(value, 0), month(value, 0), day(value, 0));
+                final long epochSecond = epochDay * SECONDS_PER_DAY + time / 1_000_000_000L - offset;
+                return Instant.ofEpochSecond(epochSecond, time % 1_000_000_000L);
+            }
+        }
+        return Instant.parse(value);
+    }
+
+    /**
+     * @return whether a {@code yyyy-MM-dd} date, valid for its month and year, starts at {@code start}.
+     */
+    private static boolean isDate(final CharSequence value, final int start) {
+        if (!isDigits(value, start, 4) || value.charAt(start + 4) != '-' || !isDigits(value, start + 5, 2)
+                || value.charAt(start + 7) != '-' || !isDigits(value, start + 8, 2)) {
+            return false;
+        }
+        final int month = month(value, start);
+        final int day = day(value, start);
+        return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year(value, start), month);
+    }
+
+    private static int year(final CharSequence value, final int start) {
+        return number(value, start, 4);
+    }
+
+    private static int month(final CharSequence value, final int start) {
+        return number(value, start + 5, 2);
+    }
+
+    private static int day(final CharSequence value, final int start) {
+        return number(value, start + 8, 2);
+    }
+
+    /**
+     * Reads a {@code HH:mm[:ss[.fraction]]} time spanning from {@code start} to {@code end}; seconds are mandatory if
+     * {@code requireSeconds}.
+     *
+     * @return the nano of day, or {@link #NOT_A_TIME} if the layout is not a common one, or any field is out of range.
+     */
+    private static long time(final CharSequence value, final int start, final int end, final boolean requireSeconds) {
+        final int length = end - start;
+        if (length < 5 || !isDigits(value, start, 2) || value.charAt(start + 2) != ':' || !isDigits(value, start + 3, 2)) {
+            return NOT_A_TIME;
+        }
+
+        final int hour = number(value, start, 2);
+        final int minute = number(value, start + 3, 2);
+        if (hour > 23 || minute > 59) {
+            return NOT_A_TIME;
+        }
+
+        int second = 0;
+        int nano = 0;
+        if (length == 5) {
+            if (requireSeconds) {
+                return NOT_A_TIME;
+            }
+        } else {
+            if (length < 8 || value.charAt(start + 5) != ':' || !isDigits(value, start + 6, 2)) {
+                return NOT_A_TIME;
+            }
+            second = number(value, start + 6, 2);
+            if (second > 59) {
+                return NOT_A_TIME;
+            }
+
+            if (length > 8) {
+                final int digits = length - 9;
+                if (value.charAt(start + 8) != '.' || digits < 1 || digits > 9 || !isDigits(value, start + 9, digits)) {
+                    return NOT_A_TIME;
+                }
+                nano = number(value, start + 9, digits) * NANOS_SCALE[digits];
+            }
+        }
+
+        final long secondOfDay = hour * 3_600L + minute * 60L + second;
+        return secondOfDay * 1_000_000_000L + nano;
+    }
+
+    /**
+     * @return the index the offset of an instant starts at, either a {@code Z} or a {@code ±HH:mm} one; or {@code -1} if none of
+     *         those.
+     */
+    private static int offsetStart(final CharSequence value, final int length) {
+        if (value.charAt(length - 1) == 'Z') {
+            return length - 1;
+        }
+        if (length > DATE_LENGTH + 6) {
+            final char sign = value.charAt(length - 6);
+            if (sign == '+' || sign == '-') {
+                return length - 6;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the offset, in seconds, or {@link #NOT_A_TIME} if out of range.
+     */
+    private static int offset(final CharSequence value, final int start, final int end) {
+        if (end - start == 1) {
+            return 0;
+        }
+        if (!isDigits(value, start + 1, 2) || value.charAt(start + 3) != ':' || !isDigits(value, start + 4, 2)) {
+            return NOT_A_TIME;
+        }
+        final int hours = number(value, start + 1, 2);
+        final int minutes = number(value, start + 4, 2);
+        if (hours > 18 || minutes > 59 || (hours == 18 && minutes > 0)) {
+            return NOT_A_TIME;
+        }
+        final int seconds = hours * 3_600 + minutes * 60;
+        return value.charAt(start) == '-' ? -seconds : seconds;
+    }
+
+    private static boolean isDigits(final CharSequence value, final int start, final int count) {
+        for (int i = start; i < start + count; i++) {
+            final char current = value.charAt(i);
+            if (current < '0' || current > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int number(final CharSequence value, final int start, final int count) {
+        int number = 0;
+        for (int i = start; i < start + count; i++) {
+            number = number * 10 + (value.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Same as {@link LocalDate#toEpochDay()}, for the non-negative years a {@code yyyy} layout allows, without building the
+     * {@link LocalDate}.
+     */
+    private static long epochDay(final int year, final int month, final int day) {
+        long total = 365L * year;
+        total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -1,28 +1,26 @@
 package org.apache.avro.generic;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import io.github.leofuso.record.mapper.exception.Throwables;
+import io.github.leofuso.record.mapper.instrument.EnhancedDecoder;
+import io.github.leofuso.record.mapper.instrument.RelaxedConverter;
+import io.github.leofuso.record.mapper.instrument.interceptor.EnhancedReadBytes;
+import io.github.leofuso.record.mapper.instrument.interceptor.EnhancedReadInt;
+import io.github.leofuso.record.mapper.instrument.interceptor.EnhancedReadLong;
 
-import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Conversion;
 import org.apache.avro.LogicalType;
 import org.apache.avro.Schema;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.Decoder;
+import org.apache.avro.io.RelaxedJsonDecoder;
+import org.apache.avro.io.RelaxedResolvingDecoder;
 import org.apache.avro.io.ResolvingDecoder;
 
-import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.READ_BYTES_REWRITE;
-import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.READ_INT_REWRITE;
-import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.READ_LONG_REWRITE;
-
 /**
  *  {@link DatumReader} for generic Java objects.
  *  <p>
@@ -30,6 +28,12 @@ import static io.github.leofuso.record.mapper.instrument.InterceptorDispatcher.R
  */
 public class EnhancedGenericDatumReader<D> extends GenericDatumReader<D> {
 
+    private final ThreadLocal<RelaxedResolvingDecoder> resolvers = new ThreadLocal<>();
+
+    /* Resolved on first read; conversions added to the GenericData afterwards are not seen by this reader */
+    private final Map<Schema, RelaxedConverter> converters = new ConcurrentHashMap<>();
+    private final Map<Schema, RelaxedConverter[]> fieldConverters = new ConcurrentHashMap<>();
+
     public EnhancedGenericDatumReader() {}
 
     /**
@@ -54,10 +58,127 @@ public class EnhancedGenericDatumReader<D> extends GenericDatumReader<D> {
         super(data);
     }
 
+    /**
+     * Reads through a {@link RelaxedResolvingDecoder}, held per thread, if the {@code in} Decoder is a {@link RelaxedJsonDecoder},
+     * reaching its relaxed reads without any byte code enhancement. Any other {@link Decoder} is read as usual.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public D read(final D reuse, final Decoder in) throws IOException {
+        if (!(in instanceof RelaxedJsonDecoder)) {
+            return super.read(reuse, in);
+        }
+
+        final Schema actual = getSchema();
+        final Schema expected = getExpected();
+        RelaxedResolvingDecoder resolver = resolvers.get();
+        if (resolver == null || !resolver.resolves(actual, expected)) {
+            resolver = new RelaxedResolvingDecoder(actual, expected, in);
+            resolvers.set(resolver);
+        }
+
+        resolver.configure(in);
+        final D result = (D) read(reuse, expected, resolver);
+        resolver.drain();
+        return result;
+    }
+
+    /**
+     * Reads the datum, converting it through the {@link RelaxedConverter} cached for the {@code expected} node, if it has a logical
+     * type, instead of looking its {@link Conversion} up by name on every read.
+     */
+    @Override
+    protected Object read(final Object old, final Schema expected, final ResolvingDecoder in) throws IOException {
+        final Object datum = readWithoutConversion(old, expected, in);
+        return expected.getLogicalType() == null ? datum : converter(expected).convert(datum);
+    }
+
+    /**
+     * Same as {@link GenericDatumReader#readRecord(Object, Schema, ResolvingDecoder)}, converting every field through the
+     * {@link RelaxedConverter RelaxedConverters} resolved once for the whole record, sparing any per field lookup.
+     */
+    @Override
+    protected Object readRecord(final Object old, final Schema expected, final ResolvingDecoder in) throws IOException {
+        final GenericData data = getData();
+        final Object record = data.newRecord(old, expected);
+        final Object state = data.getRecordState(record, expected);
+        final RelaxedConverter[] converters = fieldConverters(expected);
+
+        for (final Schema.Field field : in.readFieldOrder()) {
+            final int pos = field.pos();
+            final String name = field.name();
+            final Object oldDatum = old == null ? null : data.getField(record, name, pos, state);
+            final Object datum = readWithoutConversion(oldDatum, field.schema(), in);
+            data.setField(record, name, pos, converters[pos].convert(datum), state);
+        }
+
+        return record;
+    }
+
+    /**
+     * Same as {@link GenericDatumReader#readArray(Object, Schema, ResolvingDecoder)}, converting every element through the
+     * {@link RelaxedConverter} resolved once for the element Schema.
+     */
+    @Override
+    protected Object readArray(final Object old, final Schema expected, final ResolvingDecoder in) throws IOException {
+        final Schema elementType = expected.getElementType();
+        long length = in.readArrayStart();
+        if (length <= 0) {
+            return prune(newArray(old, 0, expected));
+        }
+
+        final RelaxedConverter converter = converter(elementType);
+        final Object array = newArray(old, (int) length, expected);
+        long base = 0;
+        do {
+            for (long i = 0; i < length; i++) {
+                final Object datum = readWithoutConversion(peekArray(array), elementType, in);
+                addToArray(array, base + i, converter.convert(datum));
+            }
+            base += length;
+        } while ((length = in.arrayNext()) > 0);
+        return prune(array);
+    }
+
+    /**
+     * Same as {@link GenericDatumReader#readMap(Object, Schema, ResolvingDecoder)}, converting every value through the
+     * {@link RelaxedConverter} resolved once for the value Schema.
+     */
+    @Override
+    protected Object readMap(final Object old, final Schema expected, final ResolvingDecoder in) throws IOException {
+        final Schema valueType = expected.getValueType();
+        long length = in.readMapStart();
+
+        final RelaxedConverter converter = converter(valueType);
+        final Object map = newMap(old, (int) length);
+        if (length > 0) {
+            do {
+                for (long i = 0; i < length; i++) {
+                    final Object key = readMapKey(null, expected, in);
+                    addToMap(map, key, converter.convert(readWithoutConversion(null, valueType, in)));
+                }
+            } while ((length = in.mapNext()) > 0);
+        }
+        return map;
+    }
+
+    private static Object prune(final Object array) {
+        if (array instanceof GenericArray<?> generic) {
+            generic.prune();
+        }
+        return array;
+    }
 
     /**
      * Relaxed re-implementation of {@link GenericDatumReader#readWithoutConversion(Object, Schema, ResolvingDecoder)} aimed to redirect
      * specific parser functions to overriden ones, e.g., Expecting a Long field, but found a CharSequence value instead.
+     * <p>
+     * Overriden functions are called through the {@link EnhancedDecoder} interface, implemented either by a rewritten
+     * {@link ResolvingDecoder} or by a {@link RelaxedResolvingDecoder}, falling back to the lite interceptors otherwise, which
+     * themselves fall back to the canonical functions.
+     * <p>
+     * Numeric values with no logical type have nothing a relaxed value could be converted into, and are read straight from the
+     * canonical, primitive, functions; boxed only once, as stored.
      */
     protected Object readWithoutConversion(final Object old, final Schema expected, final ResolvingDecoder in) throws IOException {
         final Schema.Type expectedType = expected.getType();
@@ -73,9 +194,9 @@ public class EnhancedGenericDatumReader<D> extends GenericDatumReader<D> {
             }
             case FIXED -> readFixed(old, expected, in);
             case STRING -> readString(old, expected, in);
-            case BYTES -> invokeEnhanced(READ_BYTES_REWRITE, in);
-            case INT -> invokeEnhanced(READ_INT_REWRITE, in);
-            case LONG -> invokeEnhanced(READ_LONG_REWRITE, in);
+            case BYTES -> in instanceof EnhancedDecoder enhanced ? enhanced.readEnhancedBytes() : EnhancedReadBytes.LITE.apply(in);
+            case INT -> expected.getLogicalType() == null ? in.readInt() : readEnhancedInt(in);
+            case LONG -> expected.getLogicalType() == null ? in.readLong() : readEnhancedLong(in);
             case FLOAT -> in.readFloat();
             case DOUBLE -> in.readDouble();
             case BOOLEAN -> in.readBoolean();
@@ -86,19 +207,19 @@ public class EnhancedGenericDatumReader<D> extends GenericDatumReader<D> {
         };
     }
 
-    private Object invokeEnhanced(final String name, final ResolvingDecoder in, final Object ... args) {
-        try {
-            final Class<? extends Decoder> decoderClass = in.getClass();
-            final Method method = decoderClass.getMethod(name);
-            return method.invoke(in, args);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            Throwables.handleReflectionException(e);
-            return null; /* Unreachable code */
-        }
+    private static Object readEnhancedInt(final ResolvingDecoder in) throws IOException {
+        return in instanceof EnhancedDecoder enhanced ? enhanced.readEnhancedInt() : EnhancedReadInt.LITE.apply(in);
+    }
+
+    private static Object readEnhancedLong(final ResolvingDecoder in) throws IOException {
+        return in instanceof EnhancedDecoder enhanced ? enhanced.readEnhancedLong() : EnhancedReadLong.LITE.apply(in);
     }
 
     /**
      * Convert an underlying representation of a logical type (such as a ByteBuffer) to a higher level object (such as a BigDecimal).
+     * <p>
+     * Goes through the {@link RelaxedConverter} cached for the {@code schema} node, if the {@link GenericData} has a {@link Conversion}
+     * registered for it, as every caller in {@link GenericDatumReader} looks it up from there.
      */
     @Override
     protected Object convert(final Object datum, final Schema schema, final LogicalType type, final Conversion<?> conversion) {
@@ -111,55 +232,42 @@ public class EnhancedGenericDatumReader<D> extends GenericDatumReader<D> {
             throw new IllegalArgumentException("Parameters cannot be null! Parameter values:" + parameters);
         }
 
-        try {
-            final Schema.Type expectedType = schema.getType();
-            return switch (expectedType) {
-                case RECORD -> conversion.fromRecord((IndexedRecord) datum, schema, type);
-                case ENUM -> conversion.fromEnumSymbol((GenericEnumSymbol<?>) datum, schema, type);
-                case ARRAY -> conversion.fromArray((Collection<?>) datum, schema, type);
-                case MAP -> conversion.fromMap((Map<?, ?>) datum, schema, type);
-                case FIXED -> conversion.fromFixed((GenericFixed) datum, schema, type);
-                case STRING -> conversion.fromCharSequence((CharSequence) datum, schema, type);
-                case BYTES -> {
-                    if (datum instanceof ByteBuffer value) {
-                        yield conversion.fromBytes(value, schema, type);
-                    }
-                    if (datum instanceof Double value) {
-                        yield conversion.fromDouble(value, schema, type);
-                    }
-                    if (datum instanceof Integer value) {
-                        yield conversion.fromInt(value, schema, type);
-                    }
-                    yield datum;
-                }
-                case INT -> {
-                    if (datum instanceof Integer value) {
-                        yield conversion.fromInt(value, schema, type);
-                    }
-                    if (datum instanceof CharSequence value) {
-                        yield conversion.fromCharSequence(value, schema, type);
-                    }
-                    yield datum;
-                }
-                case LONG -> {
-                    if (datum instanceof Long value) {
-                        yield conversion.fromLong(value, schema, type);
-                    }
-                    if (datum instanceof CharSequence value) {
-                        yield conversion.fromCharSequence(value, schema, type);
-                    }
-                    yield datum;
-                }
-                case FLOAT -> conversion.fromFloat((Float) datum, schema, type);
-                case DOUBLE -> conversion.fromDouble((Double) datum, schema, type);
-                case BOOLEAN -> conversion.fromBoolean((Boolean) datum, schema, type);
-                default -> datum;
-            };
-        } catch (final ClassCastException e) {
-            final Class<?> objectClass = datum.getClass();
-            final String objectClassName = objectClass.getSimpleName();
-            final String exceptionMessage = "Cannot convert %s:%s: expected generic type".formatted(objectClass, objectClassName);
-            throw new AvroRuntimeException(exceptionMessage, e);
+        final RelaxedConverter cached = converter(schema);
+        if (cached != RelaxedConverter.NONE) {
+            return cached.convert(datum);
+        }
+        return RelaxedConverter.of(schema, conversion).convert(datum);
+    }
+
+    /**
+     * @return the {@link RelaxedConverter} resolved, and cached, for the {@code schema} node.
+     */
+    private RelaxedConverter converter(final Schema schema) {
+        final RelaxedConverter cached = converters.get(schema);
+        if (cached != null) {
+            return cached;
+        }
+        final LogicalType type = schema.getLogicalType();
+        final Conversion<?> conversion = type == null ? null : getData().getConversionFor(type);
+        final RelaxedConverter converter = RelaxedConverter.of(schema, conversion);
+        converters.putIfAbsent(schema, converter);
+        return converter;
+    }
+
+    /**
+     * @return the {@link RelaxedConverter RelaxedConverters} of every field of the {@code record} Schema, indexed by position.
+     */
+    private RelaxedConverter[] fieldConverters(final Schema record) {
+        final RelaxedConverter[] cached = fieldConverters.get(record);
+        if (cached != null) {
+            return cached;
+        }
+        final List<Schema.Field> fields = record.getFields();
+        final RelaxedConverter[] resolved = new RelaxedConverter[fields.size()];
+        for (final Schema.Field field : fields) {
+            resolved[field.pos()] = converter(field.schema());
         }
+        fieldConverters.putIfAbsent(record, resolved);
+        return resolved;
     }
 }
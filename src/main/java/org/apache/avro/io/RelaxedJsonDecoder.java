@@ -0,0 +1,553 @@
+package org.apache.avro.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.parsing.JsonGrammarGenerator;
+import org.apache.avro.io.parsing.Parser;
+import org.apache.avro.io.parsing.Symbol;
+import org.apache.avro.util.Utf8;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * A {@link Decoder} for Avro's {@code JSON} data encoding, following the same grammar as the {@link JsonDecoder}, that also offers
+ * relaxed reads: {@code int} and {@code long} values given as strings, e.g. ISO-8601 dates and times, and {@code bytes} values given
+ * as numbers, e.g. decimals.
+ * <p>
+ * Relaxed reads are reached through a {@link RelaxedResolvingDecoder}, as the
+ * {@link org.apache.avro.generic.EnhancedGenericDatumReader EnhancedGenericDatumReader} does, without any byte code enhancement.
+ * Every other read follows the {@link JsonDecoder} ones, though as a separate implementation rather than a subclass; the messages it
+ * fails with, for one, may differ.
+ * <p>
+ * A standalone API: no {@link io.github.leofuso.record.mapper.RecordMapper RecordMapper} builds one. Callers hand it over to an
+ * {@code EnhancedGenericDatumReader} themselves, e.g. one produced by a
+ * {@link io.github.leofuso.record.mapper.RecordReaderFactory RecordReaderFactory}.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class RelaxedJsonDecoder extends ParsingDecoder implements Parser.ActionHandler {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Deque<ReorderBuffer> reorderBuffers = new ArrayDeque<>();
+    private ReorderBuffer currentReorderBuffer;
+
+    private JsonParser in;
+
+    public RelaxedJsonDecoder(final Schema schema, final String in) throws IOException {
+        super(grammar(schema));
+        configure(in);
+    }
+
+    public RelaxedJsonDecoder(final Schema schema, final InputStream in) throws IOException {
+        super(grammar(schema));
+        configure(in);
+    }
+
+    private static Symbol grammar(final Schema schema) {
+        Objects.requireNonNull(schema, Schema.class.getSimpleName() + " [schema] is required.");
+        return new JsonGrammarGenerator().generate(schema);
+    }
+
+    /**
+     * Resets this decoder, to read from the {@code in} String.
+     */
+    public RelaxedJsonDecoder configure(final String in) throws IOException {
+        Objects.requireNonNull(in, String.class.getSimpleName() + " [in] is required.");
+        return configure(jsonFactory.createParser(in));
+    }
+
+    /**
+     * Resets this decoder, to read from the {@code in} InputStream.
+     */
+    public RelaxedJsonDecoder configure(final InputStream in) throws IOException {
+        Objects.requireNonNull(in, InputStream.class.getSimpleName() + " [in] is required.");
+        return configure(jsonFactory.createParser(in));
+    }
+
+    private RelaxedJsonDecoder configure(final JsonParser in) throws IOException {
+        parser.reset();
+        reorderBuffers.clear();
+        currentReorderBuffer = null;
+        this.in = in;
+        this.in.nextToken();
+        return this;
+    }
+
+    private void advance(final Symbol symbol) throws IOException {
+        parser.processTrailingImplicitActions();
+        if (in.currentToken() == null && parser.depth() == 1) {
+            throw new EOFException();
+        }
+        parser.advance(symbol);
+    }
+
+    /**
+     * Reads an expected Integer value, accepting CharSequences as well.
+     *
+     * @return either an {@link Integer}, a {@link String} or {@code null}.
+     */
+    public Object readRelaxedInt() throws IOException {
+        advance(Symbol.INT);
+        final JsonToken token = in.currentToken();
+        return switch (token) {
+            case VALUE_STRING -> {
+                final String value = in.getText();
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                final int value = in.getIntValue();
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NULL -> {
+                in.nextToken();
+                yield null;
+            }
+            case END_OBJECT -> null;
+            default -> throw new AvroTypeException("Expected [CharSequence] or [number]. Got " + token);
+        };
+    }
+
+    /**
+     * Reads an expected Long value, accepting CharSequences as well.
+     *
+     * @return either a {@link Long}, a {@link String} or {@code null}.
+     */
+    public Object readRelaxedLong() throws IOException {
+        advance(Symbol.LONG);
+        final JsonToken token = in.currentToken();
+        return switch (token) {
+            case VALUE_STRING -> {
+                final String value = in.getText();
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                final long value = in.getLongValue();
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NULL -> {
+                in.nextToken();
+                yield null;
+            }
+            case END_OBJECT -> null;
+            default -> throw new AvroTypeException("Expected [CharSequence] or [number]. Got " + token);
+        };
+    }
+
+    /**
+     * Reads an expected Byte Array value, accepting numbers as well.
+     *
+     * @return either a {@link ByteBuffer}, a {@link Double}, an {@link Integer} or {@code null}.
+     */
+    public Object readRelaxedBytes() throws IOException {
+        advance(Symbol.BYTES);
+        final JsonToken token = in.currentToken();
+        return switch (token) {
+            case VALUE_STRING -> {
+                final ByteBuffer value = ByteBuffer.wrap(readByteArray());
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NUMBER_FLOAT -> {
+                final double value = in.getDoubleValue();
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NUMBER_INT -> {
+                final int value = in.getIntValue();
+                in.nextToken();
+                yield value;
+            }
+            case VALUE_NULL -> {
+                in.nextToken();
+                yield null;
+            }
+            case END_OBJECT -> null;
+            default -> throw new AvroTypeException("Expected [byte] or [number]. Got " + token);
+        };
+    }
+
+    @Override
+    public void readNull() throws IOException {
+        advance(Symbol.NULL);
+        if (in.currentToken() != JsonToken.VALUE_NULL) {
+            throw error("null");
+        }
+        in.nextToken();
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        advance(Symbol.BOOLEAN);
+        final JsonToken token = in.currentToken();
+        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+            throw error("boolean");
+        }
+        in.nextToken();
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        advance(Symbol.INT);
+        if (!in.currentToken().isNumeric()) {
+            throw error("int");
+        }
+        final int value = in.getIntValue();
+        in.nextToken();
+        return value;
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        advance(Symbol.LONG);
+        if (!in.currentToken().isNumeric()) {
+            throw error("long");
+        }
+        final long value = in.getLongValue();
+        in.nextToken();
+        return value;
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        advance(Symbol.FLOAT);
+        if (!in.currentToken().isNumeric()) {
+            throw error("float");
+        }
+        final float value = in.getFloatValue();
+        in.nextToken();
+        return value;
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        advance(Symbol.DOUBLE);
+        if (!in.currentToken().isNumeric()) {
+            throw error("double");
+        }
+        final double value = in.getDoubleValue();
+        in.nextToken();
+        return value;
+    }
+
+    @Override
+    public Utf8 readString(final Utf8 old) throws IOException {
+        return new Utf8(readString());
+    }
+
+    @Override
+    public String readString() throws IOException {
+        expectString();
+        final String value = in.getText();
+        in.nextToken();
+        return value;
+    }
+
+    @Override
+    public void skipString() throws IOException {
+        expectString();
+        in.nextToken();
+    }
+
+    private void expectString() throws IOException {
+        advance(Symbol.STRING);
+        if (parser.topSymbol() == Symbol.MAP_KEY_MARKER) {
+            parser.advance(Symbol.MAP_KEY_MARKER);
+            if (in.currentToken() != JsonToken.FIELD_NAME) {
+                throw error("map-key");
+            }
+        } else if (in.currentToken() != JsonToken.VALUE_STRING) {
+            throw error("string");
+        }
+    }
+
+    @Override
+    public ByteBuffer readBytes(final ByteBuffer old) throws IOException {
+        advance(Symbol.BYTES);
+        if (in.currentToken() != JsonToken.VALUE_STRING) {
+            throw error("bytes");
+        }
+        final byte[] value = readByteArray();
+        in.nextToken();
+        return ByteBuffer.wrap(value);
+    }
+
+    @Override
+    public void skipBytes() throws IOException {
+        advance(Symbol.BYTES);
+        if (in.currentToken() != JsonToken.VALUE_STRING) {
+            throw error("bytes");
+        }
+        in.nextToken();
+    }
+
+    private byte[] readByteArray() throws IOException {
+        return in.getText().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private void checkFixed(final int size) throws IOException {
+        advance(Symbol.FIXED);
+        final Symbol.IntCheckAction top = (Symbol.IntCheckAction) parser.popSymbol();
+        if (size != top.size) {
+            throw new AvroTypeException("Incorrect length for fixed binary: expected " + top.size + " but received " + size + " bytes.");
+        }
+    }
+
+    @Override
+    public void readFixed(final byte[] bytes, final int start, final int length) throws IOException {
+        checkFixed(length);
+        final byte[] value = readFixedArray(length);
+        System.arraycopy(value, 0, bytes, start, length);
+    }
+
+    @Override
+    public void skipFixed(final int length) throws IOException {
+        checkFixed(length);
+        readFixedArray(length);
+    }
+
+    @Override
+    protected void skipFixed() throws IOException {
+        advance(Symbol.FIXED);
+        final Symbol.IntCheckAction top = (Symbol.IntCheckAction) parser.popSymbol();
+        readFixedArray(top.size);
+    }
+
+    private byte[] readFixedArray(final int length) throws IOException {
+        if (in.currentToken() != JsonToken.VALUE_STRING) {
+            throw error("fixed");
+        }
+        final byte[] value = readByteArray();
+        in.nextToken();
+        if (value.length != length) {
+            throw new AvroTypeException("Expected fixed length " + length + ", but got" + value.length);
+        }
+        return value;
+    }
+
+    @Override
+    public int readEnum() throws IOException {
+        advance(Symbol.ENUM);
+        final Symbol.EnumLabelsAction top = (Symbol.EnumLabelsAction) parser.popSymbol();
+        if (in.currentToken() != JsonToken.VALUE_STRING) {
+            throw error("fixed");
+        }
+        final String symbol = in.getText();
+        final int index = top.findLabel(symbol);
+        if (index < 0) {
+            throw new AvroTypeException("Unknown symbol in enum " + symbol);
+        }
+        in.nextToken();
+        return index;
+    }
+
+    @Override
+    public long readArrayStart() throws IOException {
+        advance(Symbol.ARRAY_START);
+        if (in.currentToken() != JsonToken.START_ARRAY) {
+            throw error("array-start");
+        }
+        in.nextToken();
+        return doArrayNext();
+    }
+
+    @Override
+    public long arrayNext() throws IOException {
+        advance(Symbol.ITEM_END);
+        return doArrayNext();
+    }
+
+    private long doArrayNext() throws IOException {
+        if (in.currentToken() == JsonToken.END_ARRAY) {
+            parser.advance(Symbol.ARRAY_END);
+            in.nextToken();
+            return 0;
+        }
+        return 1;
+    }
+
+    @Override
+    public long skipArray() throws IOException {
+        advance(Symbol.ARRAY_START);
+        if (in.currentToken() != JsonToken.START_ARRAY) {
+            throw error("array-start");
+        }
+        in.skipChildren();
+        in.nextToken();
+        advance(Symbol.ARRAY_END);
+        return 0;
+    }
+
+    @Override
+    public long readMapStart() throws IOException {
+        advance(Symbol.MAP_START);
+        if (in.currentToken() != JsonToken.START_OBJECT) {
+            throw error("map-start");
+        }
+        in.nextToken();
+        return doMapNext();
+    }
+
+    @Override
+    public long mapNext() throws IOException {
+        advance(Symbol.ITEM_END);
+        return doMapNext();
+    }
+
+    private long doMapNext() throws IOException {
+        if (in.currentToken() == JsonToken.END_OBJECT) {
+            in.nextToken();
+            advance(Symbol.MAP_END);
+            return 0;
+        }
+        return 1;
+    }
+
+    @Override
+    public long skipMap() throws IOException {
+        advance(Symbol.MAP_START);
+        if (in.currentToken() != JsonToken.START_OBJECT) {
+            throw error("map-start");
+        }
+        in.skipChildren();
+        in.nextToken();
+        advance(Symbol.MAP_END);
+        return 0;
+    }
+
+    @Override
+    public int readIndex() throws IOException {
+        advance(Symbol.UNION);
+        final Symbol.Alternative alternative = (Symbol.Alternative) parser.popSymbol();
+
+        final String label;
+        if (in.currentToken() == JsonToken.VALUE_NULL) {
+            label = "null";
+        } else if (in.currentToken() == JsonToken.START_OBJECT && in.nextToken() == JsonToken.FIELD_NAME) {
+            label = in.getText();
+            in.nextToken();
+            parser.pushSymbol(Symbol.UNION_END);
+        } else {
+            throw error("start-union");
+        }
+
+        final int index = alternative.findLabel(label);
+        if (index < 0) {
+            throw new AvroTypeException("Unknown union branch " + label);
+        }
+        parser.pushSymbol(alternative.getSymbol(index));
+        return index;
+    }
+
+    @Override
+    public Symbol doAction(final Symbol input, final Symbol top) throws IOException {
+        if (top instanceof Symbol.FieldAdjustAction adjust) {
+            adjustField(adjust);
+        } else if (top == Symbol.FIELD_END) {
+            if (currentReorderBuffer != null && currentReorderBuffer.origin != null) {
+                in = currentReorderBuffer.origin;
+                currentReorderBuffer.origin = null;
+            }
+        } else if (top == Symbol.RECORD_START) {
+            if (in.currentToken() != JsonToken.START_OBJECT) {
+                throw error("record-start");
+            }
+            in.nextToken();
+            reorderBuffers.push(currentReorderBuffer == null ? ReorderBuffer.NONE : currentReorderBuffer);
+            currentReorderBuffer = null;
+        } else if (top == Symbol.RECORD_END || top == Symbol.UNION_END) {
+            /* Skips whatever is left of the object, then the object itself */
+            while (in.currentToken() != JsonToken.END_OBJECT) {
+                in.nextToken();
+            }
+            if (top == Symbol.RECORD_END) {
+                if (currentReorderBuffer != null && !currentReorderBuffer.saved.isEmpty()) {
+                    throw error("Unknown fields: " + currentReorderBuffer.saved.keySet());
+                }
+                final ReorderBuffer previous = reorderBuffers.pop();
+                currentReorderBuffer = previous == ReorderBuffer.NONE ? null : previous;
+            }
+            in.nextToken();
+        } else {
+            throw new AvroTypeException("Unknown action symbol " + top);
+        }
+        return null;
+    }
+
+    /**
+     * Moves to the {@code adjust} field, either kept aside earlier or ahead in the object, keeping aside every field found before
+     * it. As in the {@link JsonDecoder}, nothing is scanned unless at a field name: a field missing at the end of the object is left
+     * for the read itself, which the relaxed reads take as {@code null}.
+     */
+    private void adjustField(final Symbol.FieldAdjustAction adjust) throws IOException {
+        final String name = adjust.fname;
+        if (currentReorderBuffer != null) {
+            try (final TokenBuffer saved = currentReorderBuffer.saved.remove(name)) {
+                if (saved != null) {
+                    currentReorderBuffer.origin = in;
+                    in = saved.asParser();
+                    in.nextToken();
+                    return;
+                }
+            }
+        }
+
+        if (in.currentToken() != JsonToken.FIELD_NAME) {
+            return;
+        }
+        do {
+            final String field = in.getText();
+            in.nextToken();
+            if (name.equals(field) || adjust.aliases.contains(field)) {
+                return;
+            }
+
+            /* Out of order, kept aside until its own turn */
+            if (currentReorderBuffer == null) {
+                currentReorderBuffer = new ReorderBuffer();
+            }
+            try (final TokenBuffer buffer = new TokenBuffer(in)) {
+                buffer.copyCurrentStructure(in);
+                currentReorderBuffer.saved.put(field, buffer);
+            }
+            in.nextToken();
+        } while (in.currentToken() == JsonToken.FIELD_NAME);
+        throw new AvroTypeException("Expected field name not found: " + name);
+    }
+
+    private AvroTypeException error(final String type) {
+        return new AvroTypeException("Expected " + type + ". Got " + in.currentToken());
+    }
+
+    /**
+     * Fields read ahead of their turn, for a single record.
+     */
+    private static final class ReorderBuffer {
+
+        /* ArrayDeque takes no nulls */
+        private static final ReorderBuffer NONE = new ReorderBuffer();
+
+        private final Map<String, TokenBuffer> saved = new HashMap<>();
+        private JsonParser origin;
+
+    }
+}
@@ -0,0 +1,62 @@
+package org.apache.avro.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import io.github.leofuso.record.mapper.instrument.EnhancedDecoder;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.parsing.Symbol;
+import org.apache.avro.util.Utf8;
+
+/**
+ * A {@link ResolvingDecoder} natively implementing the {@link EnhancedDecoder} reads, delegating them to the relaxed reads of a
+ * {@link RelaxedJsonDecoder}. Any other {@link Decoder} falls back to the canonical reads.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class RelaxedResolvingDecoder extends ResolvingDecoder implements EnhancedDecoder {
+
+    private final Schema writer;
+    private final Schema reader;
+
+    public RelaxedResolvingDecoder(final Schema writer, final Schema reader, final Decoder in) throws IOException {
+        super(writer, reader, in);
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    /**
+     * @return whether this decoder resolves the very same {@code writer} and {@code reader} Schemas.
+     */
+    public boolean resolves(final Schema writer, final Schema reader) {
+        return this.writer == writer && this.reader == reader;
+    }
+
+    @Override
+    public Object readEnhancedBytes() throws IOException {
+        final Symbol actual = parser.advance(Symbol.BYTES);
+        if (actual == Symbol.STRING) {
+            final Utf8 value = in.readString(null);
+            return ByteBuffer.wrap(value.getBytes(), 0, value.getByteLength());
+        }
+        return in instanceof RelaxedJsonDecoder relaxed ? relaxed.readRelaxedBytes() : in.readBytes(null);
+    }
+
+    @Override
+    public Object readEnhancedLong() throws IOException {
+        final Symbol actual = parser.advance(Symbol.LONG);
+        if (actual == Symbol.INT) {
+            return in.readInt();
+        } else if (actual == Symbol.DOUBLE) {
+            return (long) in.readDouble();
+        }
+        return in instanceof RelaxedJsonDecoder relaxed ? relaxed.readRelaxedLong() : in.readLong();
+    }
+
+    @Override
+    public Object readEnhancedInt() throws IOException {
+        parser.advance(Symbol.INT);
+        return in instanceof RelaxedJsonDecoder relaxed ? relaxed.readRelaxedInt() : in.readInt();
+    }
+}
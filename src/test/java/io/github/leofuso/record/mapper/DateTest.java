@@ -1,11 +1,11 @@
 package io.github.leofuso.record.mapper;
 
-import java.lang.reflect.UndeclaredThrowableException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
 import io.github.leofuso.record.mapper.fixture.annotation.SchemaParameter;
 
+import org.apache.avro.AvroTypeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -72,10 +72,10 @@ public class DateTest {
 
         /* When then */
         assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
-                .isInstanceOf(UndeclaredThrowableException.class)
+                .isInstanceOf(RecordMapper.AvroMappingException.class)
                 .hasRootCauseMessage(
                         "Numeric value (2147483648) out of range of int (-2147483648 - 2147483647)\n" +
-                                " at [Source: (String)\"{\"date\":2147483648}\"; line: 1, column: 19]"
+                                " at [Source: (String)\"{\n    \"date\": 2147483648\n}\"; line: 2, column: 23]"
                 );
     }
 
@@ -118,8 +118,9 @@ public class DateTest {
 
         /* When then */
         assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
-                .isInstanceOf(DateTimeParseException.class)
-                .hasMessage("Text 'Tue, 3 Jun 2008' could not be parsed at index 0");
+                .isInstanceOf(AvroTypeException.class)
+                .hasRootCauseInstanceOf(DateTimeParseException.class)
+                .hasRootCauseMessage("Text 'Tue, 3 Jun 2008' could not be parsed at index 0");
     }
 
     @Test
@@ -1,6 +1,8 @@
 package io.github.leofuso.record.mapper;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 
 import io.github.leofuso.record.mapper.fixture.JsonParameterResolver;
 import io.github.leofuso.record.mapper.fixture.SchemaParameterResolver;
@@ -8,8 +10,14 @@ import io.github.leofuso.record.mapper.fixture.annotation.JsonParameter;
 import io.github.leofuso.record.mapper.fixture.annotation.SchemaParameter;
 
 import org.apache.avro.AvroTypeException;
+import org.apache.avro.EnhancedDecimalConversion;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.EnhancedGenericDatumReader;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.RelaxedJsonDecoder;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +35,8 @@ public class DecimalTest {
 
     @BeforeAll
     static void setUp() {
+        /* Some tests build their Readers and decoders directly; the enhancement must be applied ahead of them */
+        RecordMapperFactory.enhancement();
         final RecordMapperFactory mapperFactory = RecordMapperFactory.get();
         mapper = mapperFactory.produce();
     }
@@ -280,4 +290,188 @@ public class DecimalTest {
                 .extracting(i -> i.get("amount"))
                 .isNull();
     }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a double-typed decimal value,
+                    When read by an EnhancedGenericDatumReader through a RelaxedJsonDecoder,
+                    Then should apply the corresponding value to the BigDecimal amount field, without any byte code enhancement
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717866(
+            @SchemaParameter(location = "decimal.schema.avsc") Schema schema,
+            @JsonParameter(location = "decimal/decimal.double.json") String json
+    ) throws IOException {
+
+        /* Given */
+        final GenericData data = new GenericData();
+        data.addLogicalTypeConversion(new EnhancedDecimalConversion());
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, data);
+
+        /* When */
+        final GenericData.Record record = reader.read(null, new RelaxedJsonDecoder(schema, json));
+
+        /* Then */
+        assertThat(record)
+                .isNotNull()
+                .extracting(i -> i.get("amount"))
+                .asInstanceOf(InstanceOfAssertFactories.type(BigDecimal.class))
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(BigDecimal.valueOf(19565, 3));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a json missing the decimal field,
+                    When read by an EnhancedGenericDatumReader through a RelaxedJsonDecoder,
+                    Then should leave the amount field null, as the relaxed reads take a missing value as null
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717884(@SchemaParameter(location = "decimal.schema.avsc") Schema schema) throws IOException {
+
+        /* Given */
+        final GenericData data = new GenericData();
+        data.addLogicalTypeConversion(new EnhancedDecimalConversion());
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, data);
+
+        /* When */
+        final GenericData.Record record = reader.read(null, new RelaxedJsonDecoder(schema, "{}"));
+
+        /* Then */
+        assertThat(record)
+                .isNotNull()
+                .extracting(i -> i.get("amount"))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a serialized decimal value,
+                    When read by an EnhancedGenericDatumReader through a BinaryDecoder, the enhancement being applied,
+                    Then should fall back to the canonical reads, applying the corresponding value to the BigDecimal amount field
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717867(
+            @SchemaParameter(location = "decimal.schema.avsc") Schema schema,
+            @JsonParameter(location = "decimal/decimal.double.json") String json
+    ) throws IOException {
+
+        /* Given */
+        final ByteBuffer serialized = mapper.serialize(json, schema);
+        final GenericData data = new GenericData();
+        data.addLogicalTypeConversion(new EnhancedDecimalConversion());
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, data);
+
+        /* When */
+        final BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(serialized.array(), null);
+        final GenericData.Record record = reader.read(null, decoder);
+
+        /* Then */
+        assertThat(record)
+                .isNotNull()
+                .extracting(i -> i.get("amount"))
+                .asInstanceOf(InstanceOfAssertFactories.type(BigDecimal.class))
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(BigDecimal.valueOf(19565, 3));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a decimal value, both as JSON and serialized,
+                    When read by an EnhancedGenericDatumReader, the enhancement being applied,
+                    Then should count the JSON read as intercepted, and the serialized one as a non-JSON fallback
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717869(
+            @SchemaParameter(location = "decimal.schema.avsc") Schema schema,
+            @JsonParameter(location = "decimal/decimal.double.json") String json
+    ) throws IOException {
+
+        /* Given */
+        final ByteBuffer serialized = mapper.serialize(json, schema);
+        final GenericData data = new GenericData();
+        data.addLogicalTypeConversion(new EnhancedDecimalConversion());
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, data);
+        final String interceptor = "EnhancedReadBytes[bytecode]";
+        final EnhancementMetrics before = RecordMapperFactory.metrics();
+
+        /* When */
+        reader.read(null, Decoders.json(schema, json));
+        reader.read(null, DecoderFactory.get().binaryDecoder(serialized.array(), null));
+
+        /* Then */
+        final EnhancementMetrics after = RecordMapperFactory.metrics();
+        final long interceptedBefore = before.getInterceptors().containsKey(interceptor)
+                ? before.getInterceptors().get(interceptor).getIntercepted()
+                : 0;
+        final long fallbacksBefore = before.getInterceptors().containsKey(interceptor)
+                ? before.getInterceptors().get(interceptor).getFallbacks().get(EnhancementMetrics.Fallback.NOT_JSON)
+                : 0;
+
+        assertThat(after.getInterceptors())
+                .hasEntrySatisfying(interceptor, counters -> {
+                    assertThat(counters.getIntercepted()).isGreaterThan(interceptedBefore);
+                    assertThat(counters.getFallbacks().get(EnhancementMetrics.Fallback.NOT_JSON)).isGreaterThan(fallbacksBefore);
+                });
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a double-typed decimal value exceeding the precision once its scale is adjusted,
+                    When converting to GenericData.Record,
+                    Then should fail the BigDecimal amount field validation
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71786b(
+            @SchemaParameter(location = "decimal.schema.avsc") Schema schema,
+            @JsonParameter(location = "decimal/decimal.overflow.double.json") String json
+    ) {
+
+        /* When then */
+        assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage(
+                        "Cannot encode decimal with precision 16 as max precision 15. This is after safely adjusting scale from 1 to required 3"
+                );
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a stringified decimal value in scientific notation,
+                    When converted to GenericData.Record,
+                    Then should apply the corresponding value to the BigDecimal amount field
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71786c(
+            @SchemaParameter(location = "decimal.schema.avsc") Schema schema,
+            @JsonParameter(location = "decimal/decimal.exponent.string.json") String json
+    ) {
+
+        /* When */
+        final GenericData.Record record = mapper.asGenericDataRecord(json, schema);
+
+        /* Then */
+        assertThat(record)
+                .isNotNull()
+                .extracting(i -> i.get("amount"))
+                .asInstanceOf(InstanceOfAssertFactories.type(BigDecimal.class))
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(BigDecimal.valueOf(19565, 3));
+    }
+
+    /**
+     * Keeps any JsonDecoder reference away from this class, whose verification would otherwise load it ahead of the enhancement.
+     */
+    private static final class Decoders {
+
+        private static Decoder json(final Schema schema, final String json) throws IOException {
+            return DecoderFactory.get().jsonDecoder(schema, json);
+        }
+    }
 }
@@ -1,35 +1,72 @@
 package io.github.leofuso.record.mapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import io.github.leofuso.record.mapper.fixture.JsonParameterResolver;
 import io.github.leofuso.record.mapper.fixture.SchemaParameterResolver;
 import io.github.leofuso.record.mapper.fixture.annotation.JsonParameter;
 import io.github.leofuso.record.mapper.fixture.annotation.SchemaParameter;
+import io.github.leofuso.record.mapper.internal.DefaultRecordMapperFactory;
 import io.github.leofuso.record.mapper.internal.JsonMapperFactory;
+import io.github.leofuso.record.mapper.instrument.bytecode.LogicalTypeConversionEnhancement;
+import io.github.leofuso.record.mapper.instrument.interceptor.VarHandleDecoderAccess;
 
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversion;
+import org.apache.avro.Conversions;
+import org.apache.avro.EnhancedDecimalConversion;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
 import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.data.EnhancedTimeConversions;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.EnhancedGenericDatumReader;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.util.Utf8;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
+import io.github.leofuso.obs.demo.events.Counter;
 import io.github.leofuso.obs.demo.events.Operation;
 import io.github.leofuso.obs.demo.events.StatementLine;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.map;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 
@@ -41,6 +78,8 @@ class JsonAvroMapperTest {
 
     @BeforeAll
     static void setUp() {
+        /* Some tests build their Readers and decoders directly; the enhancement must be applied ahead of them */
+        RecordMapperFactory.enhancement();
         final RecordMapperFactory mapperFactory = RecordMapperFactory.get();
         mapper = mapperFactory.produce();
     }
@@ -166,6 +205,201 @@ class JsonAvroMapperTest {
         assertThatRecord(record);
     }
 
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template with a valid Schema and scrambled fields,
+                    When serialized,
+                    Then the binary form must match the canonical-form one.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71785a(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v1.template.json") String canonicalJson,
+            @JsonParameter(location = "statement.line/statement-line.v3.template.json") String relaxedJson
+    ) {
+
+        /* Given */
+        final ByteBuffer expected = mapper.serialize(canonicalJson, schema);
+
+        /* When */
+        final ByteBuffer actual = mapper.serialize(relaxedJson, schema);
+
+        /* Then */
+        assertThat(actual)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template as UTF-8 bytes,
+                    When serialized,
+                    Then the binary form must match the one from its String counterpart.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71785b(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final ByteBuffer expected = mapper.serialize(json, schema);
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        /* When */
+        final ByteBuffer actual = mapper.serialize(bytes, schema);
+
+        /* Then */
+        assertThat(actual)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template as a ByteBuffer slice,
+                    When converted to GenericData.Record,
+                    Then all fields must match, and the buffer must be left untouched.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71785c(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final byte[] bytes = ("garbage" + json + "garbage").getBytes(StandardCharsets.UTF_8);
+        final int length = json.getBytes(StandardCharsets.UTF_8).length;
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, "garbage".length(), length).slice();
+
+        /* When */
+        final GenericData.Record record = mapper.asGenericDataRecord(buffer, schema);
+
+        /* Then */
+        assertThatRecord(record);
+        assertThat(buffer.remaining())
+                .isEqualTo(length);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template as an InputStream,
+                    When converted to SpecificRecord,
+                    Then all fields must match, and the stream must be left open.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71785d(
+            @JsonParameter(location = "statement.line/statement-line.v3.template.json") String json
+    ) throws IOException {
+
+        /* Given */
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        /* When */
+        final StatementLine record = mapper.asRecord(stream, StatementLine.class);
+
+        /* Then */
+        assertThatRecord(record);
+        assertThat(closed)
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template as a Reader,
+                    When converted to GenericData.Record,
+                    Then all fields must match.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71785e(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v3.template.json") String json
+    ) {
+
+        /* When */
+        final GenericData.Record record = mapper.asGenericDataRecord(new StringReader(json), schema);
+
+        /* Then */
+        assertThatRecord(record);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template and a reused OutputStream,
+                    When serialized into it twice,
+                    Then the binary form must match the one returned as a ByteBuffer, each time.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71785f(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final ByteBuffer expected = mapper.serialize(json, schema);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        /* When */
+        mapper.serialize(json, schema, out);
+        final ByteBuffer first = ByteBuffer.wrap(out.toByteArray());
+
+        out.reset();
+        mapper.serialize(json.getBytes(StandardCharsets.UTF_8), schema, out);
+        final ByteBuffer second = ByteBuffer.wrap(out.toByteArray());
+
+        /* Then */
+        assertThat(first)
+                .isEqualTo(expected);
+
+        assertThat(second)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template and a ByteBuffer,
+                    When serialized into it,
+                    Then the binary form must match the one returned as a ByteBuffer, and fail without a trace if it doesn't fit.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717860(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final ByteBuffer expected = mapper.serialize(json, schema);
+        final ByteBuffer out = ByteBuffer.allocate(expected.remaining() + 1);
+        final ByteBuffer tight = ByteBuffer.allocate(expected.remaining() - 1);
+
+        /* When */
+        final int written = mapper.serialize(json, schema, out);
+
+        /* Then */
+        assertThat(written)
+                .isEqualTo(expected.remaining());
+
+        assertThat(out.flip())
+                .isEqualTo(expected);
+
+        assertThatThrownBy(() -> mapper.serialize(json, schema, tight))
+                .isInstanceOf(RecordMapper.AvroMappingException.class);
+
+        assertThat(tight.position())
+                .isZero();
+    }
+
     @Test
     @DisplayName(
             """
@@ -220,6 +454,149 @@ class JsonAvroMapperTest {
                 .isEqualTo(expectedJsonNode);
     }
 
+    @Test
+    @DisplayName(
+            """
+                    Given a GenericData.Record,
+                    When written as json into an OutputStream,
+                    Then the values must match.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717861(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v1.template.json") String canonicalJson,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String relaxedJson
+    ) throws IOException {
+
+        /* Given */
+        final ObjectMapper objectMapper = JsonMapperFactory.getInstance();
+        final JsonNode expectedJsonNode = objectMapper.readTree(canonicalJson);
+        final GenericData.Record record = mapper.asGenericDataRecord(relaxedJson, schema);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        /* When */
+        mapper.writeJson(record, out);
+
+        /* Then */
+        assertThat(objectMapper.readTree(out.toByteArray()))
+                .isEqualTo(expectedJsonNode);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a SpecificRecord,
+                    When written as json into a Writer,
+                    Then the values must match.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717862(
+            @JsonParameter(location = "statement.line/statement-line.v1.template.json") String canonicalJson,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String relaxedJson
+    ) throws IOException {
+
+        /* Given */
+        final ObjectMapper objectMapper = JsonMapperFactory.getInstance();
+        final JsonNode expectedJsonNode = objectMapper.readTree(canonicalJson);
+        final StatementLine record = mapper.asRecord(relaxedJson, StatementLine.class);
+        final StringWriter out = new StringWriter();
+
+        /* When */
+        mapper.writeJson(record, out);
+
+        /* Then */
+        assertThat(objectMapper.readTree(out.toString()))
+                .isEqualTo(expectedJsonNode);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a batch of json templates, one of them invalid,
+                    When serialized all at once,
+                    Then every valid one must match its single serialization, and the invalid one must be reported alone.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717863(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v1.template.json") String canonicalJson,
+            @JsonParameter(location = "statement.line/statement-line.v3.template.json") String relaxedJson
+    ) {
+
+        /* Given */
+        final ByteBuffer expected = mapper.serialize(canonicalJson, schema);
+        final List<String> batch = List.of(canonicalJson, "{ \"amount\": [] }", relaxedJson);
+        final BatchMapper batchMapper = mapper.batch(schema);
+
+        final Map<Integer, ByteBuffer> values = new HashMap<>();
+        final Map<Integer, RecordMapper.AvroMappingException> errors = new HashMap<>();
+
+        /* When */
+        batchMapper.serializeAll(batch, new BatchMapper.Callback<>() {
+            @Override
+            public void onValue(final int index, final ByteBuffer value) {
+                final ByteBuffer copy = ByteBuffer.allocate(value.remaining()).put(value).flip();
+                values.put(index, copy);
+            }
+
+            @Override
+            public void onError(final int index, final RecordMapper.AvroMappingException error) {
+                errors.put(index, error);
+            }
+        });
+
+        /* Then */
+        assertThat(values)
+                .containsOnlyKeys(0, 2)
+                .containsEntry(0, expected)
+                .containsEntry(2, expected);
+
+        assertThat(errors)
+                .containsOnlyKeys(1);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a batch of json templates,
+                    When converted to GenericData.Records all at once,
+                    Then all fields must match, each time.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717864(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json,
+            @JsonParameter(location = "statement.line/statement-line.v4.template.json") String missingAmountJson
+    ) {
+
+        /* Given */
+        final List<String> batch = List.of(json, missingAmountJson, json);
+        final BatchMapper batchMapper = mapper.batch(schema);
+        final List<Object> amounts = new ArrayList<>();
+
+        /* When */
+        batchMapper.asGenericDataRecords(batch, new BatchMapper.Callback<>() {
+            @Override
+            public void onValue(final int index, final GenericData.Record value) {
+                if (index != 1) {
+                    assertThatRecord(value);
+                }
+                amounts.add(value.get("amount"));
+            }
+
+            @Override
+            public void onError(final int index, final RecordMapper.AvroMappingException error) {
+                throw error;
+            }
+        });
+
+        /* Then */
+        assertThat(amounts)
+                .hasSize(3)
+                .element(1)
+                .isNull();
+    }
+
     private static void assertThatRecord(final GenericRecord record) {
         assertThat(record)
                 .isNotNull()
@@ -303,4 +680,777 @@ class JsonAvroMapperTest {
 
                 });
     }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a RecordMapperFactory producing many mappers,
+                    When asked for its enhancement status,
+                    Then the enhancement must be active, and reported by the very same outcome every time.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717865() {
+
+        /* Given */
+        final RecordMapperFactory mapperFactory = RecordMapperFactory.get();
+        mapperFactory.produce();
+        mapperFactory.produce();
+
+        /* When */
+        final EnhancementStatus status = RecordMapperFactory.enhancement();
+
+        /* Then */
+        assertThat(status)
+                .isSameAs(RecordMapperFactory.enhancement())
+                .satisfies(s -> assertThat(s.isActive()).isTrue())
+                .satisfies(s -> assertThat(s.getMode()).isEqualTo(EnhancementStatus.Mode.RUNTIME))
+                .satisfies(s -> assertThat(s.getFailure()).isEmpty())
+                .satisfies(s -> assertThat(s.getElapsed()).isPositive());
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given the canonical Avro decoders on the classpath,
+                    When resolving the lite enhancement,
+                    Then every handle must resolve, reporting the lite mode as active.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717868() {
+
+        /* When */
+        final EnhancementStatus status = VarHandleDecoderAccess.INSTANCE.status();
+
+        /* Then */
+        assertThat(status)
+                .satisfies(s -> assertThat(s.isActive()).isTrue())
+                .satisfies(s -> assertThat(s.getMode()).isEqualTo(EnhancementStatus.Mode.LITE))
+                .satisfies(s -> assertThat(s.getFailure()).isEmpty());
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a record of numeric fields with no logical type,
+                    When serialized, and read back by an EnhancedGenericDatumReader from JSON,
+                    Then the values must match, and none of them should go through the relaxed interceptors.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71786a(
+            @SchemaParameter(location = "numeric.schema.avsc") Schema schema,
+            @JsonParameter(location = "numeric/numeric.json") String json
+    ) throws IOException {
+
+        /* Given */
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema);
+        final EnhancementMetrics before = RecordMapperFactory.metrics();
+
+        /* When */
+        final ByteBuffer serialized = mapper.serialize(json, schema);
+        final GenericData.Record deserialized = reader.read(null, DecoderFactory.get().binaryDecoder(serialized.array(), null));
+        final GenericData.Record read = reader.read(null, Decoders.json(schema, json));
+
+        /* Then */
+        final EnhancementMetrics after = RecordMapperFactory.metrics();
+        assertThat(List.of(deserialized, read))
+                .allSatisfy(record -> assertThat(record)
+                        .satisfies(r -> assertThat(r.get("count")).isEqualTo(42))
+                        .satisfies(r -> assertThat(r.get("total")).isEqualTo(9876543210L))
+                        .satisfies(r -> assertThat(r.get("ratio")).isEqualTo(0.5f))
+                        .satisfies(r -> assertThat(r.get("reading")).isEqualTo(19.565d)));
+
+        assertThat(List.of("EnhancedReadInt[bytecode]", "EnhancedReadLong[bytecode]"))
+                .allSatisfy(interceptor -> assertThat(intercepted(after, interceptor)).isEqualTo(intercepted(before, interceptor)));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given two RecordMapperFactories, only one of them producing a mapper with an additional conversion,
+                    When converting the same json with a mapper from each,
+                    Then only the mapper with the conversion should apply it, as each factory owns its GenericData.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71786e() {
+
+        /* Given */
+        final Schema uuid = LogicalTypes.uuid().addToSchema(Schema.create(Schema.Type.STRING));
+        final Schema schema = SchemaBuilder.record("Identified")
+                .namespace("io.github.leofuso.record.mapper.test")
+                .fields()
+                .name("id").type(uuid).noDefault()
+                .endRecord();
+
+        final String id = "5d3ddc1b-3d1c-4b8e-9c3a-0f6b8f1a2c7e";
+        final String json = "{\"id\": \"" + id + "\"}";
+
+        final RecordMapper converting = new DefaultRecordMapperFactory().produce(new Conversions.UUIDConversion());
+        final RecordMapper plain = new DefaultRecordMapperFactory().produce();
+
+        /* When */
+        final GenericData.Record converted = converting.asGenericDataRecord(json, schema);
+        final GenericData.Record unconverted = plain.asGenericDataRecord(json, schema);
+
+        /* Then */
+        assertThat(converted.get("id"))
+                .isEqualTo(UUID.fromString(id));
+
+        assertThat(unconverted.get("id"))
+                .isInstanceOf(CharSequence.class)
+                .hasToString(id);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a json with a null value for a non-nullable field,
+                    When converted to GenericData.Record, and serialized,
+                    Then both should fail, naming the expected type.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71786f(
+            @SchemaParameter(location = "numeric.schema.avsc") Schema schema,
+            @JsonParameter(location = "numeric/numeric.null.json") String json
+    ) {
+
+        /* When then */
+        assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected int. Got VALUE_NULL");
+
+        assertThatThrownBy(() -> mapper.serialize(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected int. Got VALUE_NULL");
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a json missing a required, non-nullable, field,
+                    When converted to GenericData.Record, and serialized,
+                    Then both should fail, naming the missing field.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717870(
+            @SchemaParameter(location = "numeric.schema.avsc") Schema schema,
+            @JsonParameter(location = "numeric/numeric.missing.json") String json
+    ) {
+
+        /* When then */
+        assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Missing value for non-nullable field [total]");
+
+        assertThatThrownBy(() -> mapper.serialize(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Missing value for non-nullable field [total]");
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a json template of a SpecificRecord with primitive fields,
+                    When converted to SpecificRecord,
+                    Then all fields must match.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717871(@JsonParameter(location = "counter/counter.json") String json) {
+
+        /* When */
+        final Counter record = mapper.asRecord(json, Counter.class);
+
+        /* Then */
+        assertThat(record)
+                .satisfies(r -> assertThat(r.getName()).isEqualTo("requests"))
+                .satisfies(r -> assertThat(r.getCount()).isEqualTo(42))
+                .satisfies(r -> assertThat(r.getTotal()).isEqualTo(9876543210L))
+                .satisfies(r -> assertThat(r.getActive()).isTrue());
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given json templates of a SpecificRecord with a null, and a missing, primitive field,
+                    When converted to SpecificRecord,
+                    Then both should fail with an AvroTypeException, instead of a NullPointerException.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717872(
+            @JsonParameter(location = "counter/counter.null.json") String nullJson,
+            @JsonParameter(location = "counter/counter.missing.json") String missingJson
+    ) {
+
+        /* When then */
+        assertThatThrownBy(() -> mapper.asRecord(nullJson, Counter.class))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected int. Got VALUE_NULL");
+
+        assertThatThrownBy(() -> mapper.asRecord(missingJson, Counter.class))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Missing value for non-nullable field [count]");
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template, with relaxed logical type values,
+                    When read through an EnhancedGenericDatumReader, resolving the Schema into itself,
+                    Then all fields must match, and the relaxed values must go through the interceptors.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717873(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, enhancedData());
+        final EnhancementMetrics before = RecordMapperFactory.metrics();
+
+        /* When */
+        final GenericData.Record record = read(reader, schema, json);
+
+        /* Then */
+        final EnhancementMetrics after = RecordMapperFactory.metrics();
+        assertThatRecord(record);
+        assertThat(List.of("EnhancedReadBytes[bytecode]", "EnhancedReadInt[bytecode]", "EnhancedReadLong[bytecode]"))
+                .allSatisfy(interceptor -> assertThat(intercepted(after, interceptor)).isGreaterThan(intercepted(before, interceptor)));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a json written with an older Schema version,
+                    When read through an EnhancedGenericDatumReader into the newer Schema version,
+                    Then promoted fields must be widened, and missing ones must be filled in by their defaults.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717874(
+            @SchemaParameter(location = "numeric.schema.avsc") Schema writer,
+            @SchemaParameter(location = "numeric.v2.schema.avsc") Schema reader,
+            @JsonParameter(location = "numeric/numeric.json") String json
+    ) {
+
+        /* Given */
+        final EnhancedGenericDatumReader<GenericData.Record> datumReader =
+                new EnhancedGenericDatumReader<>(writer, reader, enhancedData());
+
+        /* When */
+        final GenericData.Record record = read(datumReader, writer, json);
+
+        /* Then */
+        assertThat(record)
+                .satisfies(r -> assertThat(r.getSchema()).isEqualTo(reader))
+                .satisfies(r -> assertThat(r.get("count")).isEqualTo(42L))
+                .satisfies(r -> assertThat(r.get("total")).isEqualTo(9876543210L))
+                .satisfies(r -> assertThat(r.get("reading")).isEqualTo(19.565d))
+                .satisfies(r -> assertThat(r.get("unit")).hasToString("celsius"));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given the decoders enhanced at build time,
+                    When saved into a folder,
+                    Then the Avro version they were rebased from must be recorded alongside them.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717875(@TempDir Path folder) throws IOException {
+
+        /* When */
+        LogicalTypeConversionEnhancement.save(folder.toFile());
+
+        /* Then */
+        final String avroVersion = Schema.class.getPackage().getImplementationVersion();
+        assertThat(folder.resolve(LogicalTypeConversionEnhancement.MARKER))
+                .content()
+                .isEqualToIgnoringNewLines("avro.version=" + avroVersion);
+        assertThat(folder.resolve("org/apache/avro/io/JsonDecoder.class")).exists();
+        assertThat(folder.resolve("org/apache/avro/io/ResolvingDecoder.class")).exists();
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given an EnhancedGenericDatumReader over arrays and maps of logical-typed values,
+                    When reading the same json twice,
+                    Then every element must be converted, and the second read must not look any Conversion up.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717876(
+            @SchemaParameter(location = "collections.schema.avsc") Schema schema,
+            @JsonParameter(location = "collections/collections.json") String json
+    ) throws IOException {
+
+        /* Given */
+        final AtomicInteger lookups = new AtomicInteger();
+        final GenericData data = new GenericData() {
+            @Override
+            public Conversion<Object> getConversionFor(final LogicalType type) {
+                lookups.incrementAndGet();
+                return super.getConversionFor(type);
+            }
+        };
+        data.addLogicalTypeConversion(new TimeConversions.DateConversion());
+        data.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, data);
+        reader.read(null, Decoders.json(schema, json));
+
+        /* When */
+        lookups.set(0);
+        final GenericData.Record record = reader.read(null, Decoders.json(schema, json));
+
+        /* Then */
+        assertThat(lookups).hasValue(0);
+        assertThat(record.get("dates"))
+                .asInstanceOf(InstanceOfAssertFactories.list(LocalDate.class))
+                .containsExactly(LocalDate.parse("2022-12-22"), LocalDate.parse("2022-12-23"));
+        assertThat(record.get("instants"))
+                .asInstanceOf(map(Utf8.class, Instant.class))
+                .containsEntry(new Utf8("created"), Instant.ofEpochMilli(1671339115565L))
+                .containsEntry(new Utf8("updated"), Instant.ofEpochMilli(1671339115566L));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given more distinct Schemas than the Schema plan and Writer caches hold,
+                    When each one is read, and written back, twice over, from many threads,
+                    Then every record must match its own Schema and value, evicted or not.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717877() {
+
+        /* Given */
+        final int count = 600; /* Past the 512 entries each cache holds */
+        final List<Schema> schemas = IntStream.range(0, count)
+                .mapToObj(i -> SchemaBuilder.record("Counter" + i)
+                        .namespace("io.github.leofuso.record.mapper.test")
+                        .fields()
+                        .requiredInt("count")
+                        .endRecord())
+                .toList();
+
+        /* When then */
+        IntStream.range(0, count * 2)
+                .parallel()
+                .forEach(i -> {
+                    final int index = i % count;
+                    final Schema schema = schemas.get(index);
+                    final String json = "{\"count\": %d}".formatted(index);
+
+                    final GenericData.Record record = mapper.asGenericDataRecord(json, schema);
+                    final StringWriter written = new StringWriter();
+                    mapper.writeJson(record, written);
+
+                    assertThat(record.getSchema()).isSameAs(schema);
+                    assertThat(record.get("count")).isEqualTo(index);
+                    assertThat(written).hasToString("{\"count\":%d}".formatted(index));
+                });
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json of a recursive Schema, with unwrapped unions and a missing optional field,
+                    When converted to GenericData.Record, and serialized,
+                    Then every nested node must match, and the binary form must match the canonical-form one.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717878(
+            @SchemaParameter(location = "linked.schema.avsc") Schema schema,
+            @JsonParameter(location = "linked/linked.json") String json,
+            @JsonParameter(location = "linked/linked.canonical.json") String canonicalJson
+    ) {
+
+        /* When */
+        final GenericData.Record record = mapper.asGenericDataRecord(json, schema);
+        final ByteBuffer actual = mapper.serialize(json, schema);
+
+        /* Then */
+        final List<Object> values = new ArrayList<>();
+        for (GenericRecord node = record; node != null; node = (GenericRecord) node.get("next")) {
+            assertThat(node.getSchema()).isEqualTo(schema);
+            values.add(node.get("value"));
+        }
+        assertThat(values).containsExactly(1, 2, 3);
+        assertThat(actual).isEqualTo(mapper.serialize(canonicalJson, schema));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a GenericData.Record with unions, maps, bytes and fixed values,
+                    When converted to JsonNode,
+                    Then unions must be unwrapped, bytes and fixed rendered as ISO-8859-1 strings, as its written json does.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717879(
+            @SchemaParameter(location = "composite.schema.avsc") Schema schema,
+            @JsonParameter(location = "composite/composite.json") String json
+    ) throws JsonProcessingException {
+
+        /* Given */
+        final GenericData.Record record = mapper.asGenericDataRecord(json, schema);
+        final StringWriter written = new StringWriter();
+        mapper.writeJson(record, written);
+
+        /* When */
+        final JsonNode node = mapper.asJsonNode(record);
+
+        /* Then */
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ObjectNode expected = (ObjectNode) objectMapper.readTree(json);
+        expected.putNull("nickname");
+        assertThat(node)
+                .isEqualTo(objectMapper.readTree(written.toString()))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template, with relaxed logical type values,
+                    When read through a single EnhancedGenericDatumReader from many threads at once,
+                    Then every record must match, each relaxed read going through the shared interceptors.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71787a(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final int reads = 256;
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, enhancedData());
+        final String interceptor = "EnhancedReadLong[bytecode]";
+        final long before = intercepted(RecordMapperFactory.metrics(), interceptor);
+
+        /* When */
+        final List<GenericData.Record> records = IntStream.range(0, reads)
+                .parallel()
+                .mapToObj(i -> read(reader, schema, json))
+                .toList();
+
+        /* Then */
+        assertThat(records)
+                .hasSize(reads)
+                .allSatisfy(JsonAvroMapperTest::assertThatRecord);
+        assertThat(intercepted(RecordMapperFactory.metrics(), interceptor))
+                .isGreaterThanOrEqualTo(before + reads);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given both a canonical, and a friendly, json template,
+                    When read through an EnhancedGenericDatumReader,
+                    Then all fields must match, each rewritten read method dispatching both values to its own interceptor.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71787b(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v1.template.json") String canonicalJson,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String relaxedJson
+    ) {
+
+        /* Given */
+        final List<String> interceptors =
+                List.of("EnhancedReadBytes[bytecode]", "EnhancedReadInt[bytecode]", "EnhancedReadLong[bytecode]");
+        final EnhancedGenericDatumReader<GenericData.Record> reader = new EnhancedGenericDatumReader<>(schema, schema, enhancedData());
+        final EnhancementMetrics before = RecordMapperFactory.metrics();
+
+        /* When */
+        final GenericData.Record canonical = read(reader, schema, canonicalJson);
+        final GenericData.Record relaxed = read(reader, schema, relaxedJson);
+
+        /* Then */
+        final EnhancementMetrics after = RecordMapperFactory.metrics();
+        assertThat(List.of(canonical, relaxed))
+                .allSatisfy(JsonAvroMapperTest::assertThatRecord);
+        assertThat(interceptors)
+                .allSatisfy(interceptor -> assertThat(intercepted(after, interceptor))
+                        .isGreaterThanOrEqualTo(intercepted(before, interceptor) + 2));
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a mapper from the DefaultRecordMapperFactory, carrying the canonical timestamp and decimal conversions,
+                    When converting relaxed logical type values,
+                    Then both operations should fail with an AvroTypeException, as only Enhanced mappers bind relaxed values.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71787c(
+            @SchemaParameter(location = "timestamp.millis.schema.avsc") Schema timestamp,
+            @JsonParameter(location = "timestamp/millis/timestamp.ISO-8601.json") String timestampJson,
+            @SchemaParameter(location = "decimal.schema.avsc") Schema decimal,
+            @JsonParameter(location = "decimal/decimal.double.json") String decimalJson
+    ) {
+
+        /* Given */
+        final RecordMapper strict = new DefaultRecordMapperFactory()
+                .produce(new TimeConversions.TimestampMillisConversion(), new Conversions.DecimalConversion());
+
+        /* When */
+        /* Then */
+        assertThatThrownBy(() -> strict.asGenericDataRecord(timestampJson, timestamp))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected long. Got VALUE_STRING");
+
+        assertThatThrownBy(() -> strict.serialize(timestampJson, timestamp))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected long. Got VALUE_STRING");
+
+        assertThatThrownBy(() -> strict.asGenericDataRecord(decimalJson, decimal))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected bytes. Got VALUE_NUMBER_FLOAT");
+
+        assertThatThrownBy(() -> strict.serialize(decimalJson, decimal))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected bytes. Got VALUE_NUMBER_FLOAT");
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a record of numeric fields with no logical type, and a textual float value,
+                    When converted by the mapper,
+                    Then both operations should fail with an AvroTypeException, as the JsonDecoder would.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71787d(@SchemaParameter(location = "numeric.schema.avsc") Schema schema) {
+
+        /* Given */
+        final String json = "{\"count\": 42, \"total\": 9876543210, \"ratio\": \"abc\", \"reading\": 19.565}";
+
+        /* When */
+        /* Then */
+        assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected float. Got VALUE_STRING");
+
+        assertThatThrownBy(() -> mapper.serialize(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected float. Got VALUE_STRING");
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given an Enhanced mapper carrying the canonical decimal conversion, unable to convert from a double,
+                    When converting a numeric decimal value,
+                    Then both operations should fail with an AvroTypeException, wrapping the conversion failure.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71787e(
+            @SchemaParameter(location = "decimal.schema.avsc") Schema schema,
+            @JsonParameter(location = "decimal/decimal.double.json") String json
+    ) {
+
+        /* Given */
+        final RecordMapper canonical = RecordMapperFactory.get().produce(new Conversions.DecimalConversion());
+
+        /* When */
+        /* Then */
+        assertThatThrownBy(() -> canonical.asGenericDataRecord(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Unable to convert value [19.565] into logical type [decimal].")
+                .hasRootCauseInstanceOf(UnsupportedOperationException.class);
+
+        assertThatThrownBy(() -> canonical.serialize(json, schema))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Unable to convert value [19.565] into logical type [decimal].")
+                .hasRootCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a record with a duplicated field, either ahead or behind its Schema order,
+                    When converted by the mapper,
+                    Then both operations should fail alike, with an AvroTypeException.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71787f() {
+
+        /* Given */
+        final Schema schema = SchemaBuilder.record("Pair")
+                .namespace("io.github.leofuso.record.mapper.test")
+                .fields()
+                .requiredInt("a")
+                .requiredInt("b")
+                .endRecord();
+
+        final List<String> jsons = List.of("{\"a\": 1, \"a\": 2, \"b\": 3}", "{\"b\": 1, \"b\": 2, \"a\": 3}");
+
+        /* When */
+        /* Then */
+        assertThat(jsons)
+                .allSatisfy(json -> {
+                    final String field = json.substring(2, 3);
+                    assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
+                            .isInstanceOf(AvroTypeException.class)
+                            .hasMessage("Duplicate field [%s] in io.github.leofuso.record.mapper.test.Pair", field);
+
+                    assertThatThrownBy(() -> mapper.serialize(json, schema))
+                            .isInstanceOf(AvroTypeException.class)
+                            .hasMessage("Duplicate field [%s] in io.github.leofuso.record.mapper.test.Pair", field);
+                });
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a mapper from the DefaultRecordMapperFactory, and both a null and a missing timestamp,
+                    When converted by the mapper,
+                    Then both operations should fail alike, as only Enhanced mappers accept null logical-typed values.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717880(@SchemaParameter(location = "timestamp.millis.schema.avsc") Schema schema) {
+
+        /* Given */
+        final RecordMapper strict = new DefaultRecordMapperFactory().produce(new TimeConversions.TimestampMillisConversion());
+        final Map<String, String> jsons = Map.of(
+                "{}", "Missing value for non-nullable field [timestamp]",
+                "{\"timestamp\": null}", "Expected long. Got VALUE_NULL"
+        );
+
+        /* When */
+        /* Then */
+        assertThat(jsons)
+                .allSatisfy((json, message) -> {
+                    assertThatThrownBy(() -> strict.asGenericDataRecord(json, schema))
+                            .isInstanceOf(AvroTypeException.class)
+                            .hasMessage(message);
+
+                    assertThatThrownBy(() -> strict.serialize(json, schema))
+                            .isInstanceOf(AvroTypeException.class)
+                            .hasMessage(message);
+                });
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given an Enhanced mapper, and both a null and a missing timestamp,
+                    When converted by the mapper,
+                    Then the record should hold a null timestamp, but the serialization should fail, as binary has no null for it.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717881(@SchemaParameter(location = "timestamp.millis.schema.avsc") Schema schema) {
+
+        /* Given */
+        final List<String> jsons = List.of("{}", "{\"timestamp\": null}");
+        final String message = "Unable to encode a null value of logical type [timestamp-millis]; only nullable Schemas can hold it.";
+
+        /* When */
+        /* Then */
+        assertThat(jsons)
+                .allSatisfy(json -> {
+                    assertThat(mapper.asGenericDataRecord(json, schema).get("timestamp"))
+                            .isNull();
+
+                    assertThatThrownBy(() -> mapper.serialize(json, schema))
+                            .isInstanceOf(AvroTypeException.class)
+                            .hasMessage(message);
+                });
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a record whose second field is invalid, and a ByteBuffer with a non-zero position,
+                    When serialized into it,
+                    Then it should fail with an AvroTypeException, leaving the buffer position untouched.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717882() {
+
+        /* Given */
+        final Schema schema = SchemaBuilder.record("Pair")
+                .namespace("io.github.leofuso.record.mapper.test")
+                .fields()
+                .requiredInt("a")
+                .requiredInt("b")
+                .endRecord();
+
+        final String json = "{\"a\": 5, \"b\": true}";
+        final ByteBuffer out = ByteBuffer.allocate(16).position(3);
+
+        /* When */
+        /* Then */
+        assertThatThrownBy(() -> mapper.serialize(json, schema, out))
+                .isInstanceOf(AvroTypeException.class)
+                .hasMessage("Expected int. Got VALUE_TRUE");
+
+        assertThat(out.position())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a friendly json template, with relaxed logical type values,
+                    When serialized, and converted to both a GenericData.Record and a SpecificRecord, by the mapper,
+                    Then every relaxed read must be counted under the streaming interceptors.
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf717883(
+            @SchemaParameter(location = "statement-line.schema.avsc") Schema schema,
+            @JsonParameter(location = "statement.line/statement-line.v2.template.json") String json
+    ) {
+
+        /* Given */
+        final List<String> interceptors =
+                List.of("EnhancedReadBytes[streaming]", "EnhancedReadInt[streaming]", "EnhancedReadLong[streaming]");
+        final EnhancementMetrics before = RecordMapperFactory.metrics();
+
+        /* When */
+        mapper.serialize(json, schema);
+        mapper.asGenericDataRecord(json, schema);
+        mapper.asRecord(json, StatementLine.class);
+
+        /* Then */
+        final EnhancementMetrics after = RecordMapperFactory.metrics();
+        assertThat(interceptors)
+                .allSatisfy(interceptor -> assertThat(intercepted(after, interceptor))
+                        .isGreaterThanOrEqualTo(intercepted(before, interceptor) + 3));
+    }
+
+    /**
+     * @return a {@link GenericData} carrying the same conversions as the Enhanced mappers do.
+     */
+    private static GenericData enhancedData() {
+        final GenericData data = new GenericData();
+        data.addLogicalTypeConversion(new EnhancedDecimalConversion());
+        data.addLogicalTypeConversion(new Conversions.UUIDConversion());
+        data.addLogicalTypeConversion(new EnhancedTimeConversions.DateConversion());
+        data.addLogicalTypeConversion(new EnhancedTimeConversions.TimeMillisConversion());
+        data.addLogicalTypeConversion(new EnhancedTimeConversions.TimestampMicrosConversion());
+        return data;
+    }
+
+    private static GenericData.Record read(final DatumReader<GenericData.Record> reader, final Schema writer, final String json) {
+        try {
+            return reader.read(null, Decoders.json(writer, json));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long intercepted(final EnhancementMetrics metrics, final String interceptor) {
+        final EnhancementMetrics.Counters counters = metrics.getInterceptors().get(interceptor);
+        return counters == null ? 0 : counters.getIntercepted();
+    }
+
+    /**
+     * Keeps any JsonDecoder reference away from this class, whose verification would otherwise load it ahead of the enhancement.
+     */
+    private static final class Decoders {
+
+        private static Decoder json(final Schema schema, final String json) throws IOException {
+            return DecoderFactory.get().jsonDecoder(schema, json);
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package io.github.leofuso.record.mapper;
 
-import java.lang.reflect.UndeclaredThrowableException;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 
@@ -9,6 +8,7 @@ import io.github.leofuso.record.mapper.fixture.SchemaParameterResolver;
 import io.github.leofuso.record.mapper.fixture.annotation.JsonParameter;
 import io.github.leofuso.record.mapper.fixture.annotation.SchemaParameter;
 
+import org.apache.avro.AvroTypeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -71,10 +71,10 @@ public class TimeMillisTest {
 
         /* When then */
         assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
-                .isInstanceOf(UndeclaredThrowableException.class)
+                .isInstanceOf(RecordMapper.AvroMappingException.class)
                 .hasRootCauseMessage(
                         "Numeric value (2147483648) out of range of int (-2147483648 - 2147483647)\n" +
-                                " at [Source: (String)\"{\"time\":2147483648}\"; line: 1, column: 19]"
+                                " at [Source: (String)\"{\n    \"time\": 2147483648\n}\"; line: 2, column: 23]"
                 );
     }
 
@@ -117,8 +117,9 @@ public class TimeMillisTest {
 
         /* When then */
         assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
-                .isInstanceOf(DateTimeParseException.class)
-                .hasMessage("Text '12 PM' could not be parsed at index 2");
+                .isInstanceOf(AvroTypeException.class)
+                .hasRootCauseInstanceOf(DateTimeParseException.class)
+                .hasRootCauseMessage("Text '12 PM' could not be parsed at index 2");
     }
 
     @Test
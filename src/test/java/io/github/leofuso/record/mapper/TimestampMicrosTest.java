@@ -1,6 +1,5 @@
 package io.github.leofuso.record.mapper;
 
-import java.lang.reflect.UndeclaredThrowableException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 
@@ -9,6 +8,7 @@ import io.github.leofuso.record.mapper.fixture.SchemaParameterResolver;
 import io.github.leofuso.record.mapper.fixture.annotation.JsonParameter;
 import io.github.leofuso.record.mapper.fixture.annotation.SchemaParameter;
 
+import org.apache.avro.AvroTypeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -71,10 +71,10 @@ public class TimestampMicrosTest {
 
         /* When then */
         assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
-                .isInstanceOf(UndeclaredThrowableException.class)
+                .isInstanceOf(RecordMapper.AvroMappingException.class)
                 .hasRootCauseMessage(
                         "Numeric value (9223372036854775808) out of range of long (-9223372036854775808 - 9223372036854775807)\n" +
-                                " at [Source: (String)\"{\"timestamp\":9223372036854775808}\"; line: 1, column: 33]"
+                                " at [Source: (String)\"{\n    \"timestamp\": 9223372036854775808\n}\"; line: 2, column: 37]"
                 );
     }
 
@@ -117,8 +117,9 @@ public class TimestampMicrosTest {
 
         /* When then */
         assertThatThrownBy(() -> mapper.asGenericDataRecord(json, schema))
-                .isInstanceOf(DateTimeParseException.class)
-                .hasMessage("Text 'Tue, 3 Jun 2008 11:05:30 GMT' could not be parsed at index 0");
+                .isInstanceOf(AvroTypeException.class)
+                .hasRootCauseInstanceOf(DateTimeParseException.class)
+                .hasRootCauseMessage("Text 'Tue, 3 Jun 2008 11:05:30 GMT' could not be parsed at index 0");
     }
 
     @Test
@@ -166,4 +167,28 @@ public class TimestampMicrosTest {
                 .extracting(i -> i.get("timestamp"))
                 .isNull();
     }
+
+    @Test
+    @DisplayName(
+            """
+                    Given a standard string value (ISO-88601) with a numeric offset,
+                    When converted to GenericData.Record,
+                    Then should apply the corresponding value, at UTC, to Instant timestamp field
+                    """
+    )
+    void b8aec7e506ce410bb646f517cf71786d(
+            @SchemaParameter(location = "timestamp.micros.schema.avsc") Schema schema,
+            @JsonParameter(location = "timestamp/micros/timestamp.offset.ISO-8601.json") String json
+    ) {
+
+        /* When */
+        final GenericData.Record record = mapper.asGenericDataRecord(json, schema);
+
+        /* Then */
+        assertThat(record)
+                .isNotNull()
+                .extracting(i -> i.get("timestamp"))
+                .asInstanceOf(InstanceOfAssertFactories.type(Instant.class))
+                .isEqualTo(Instant.parse("2022-12-18T04:51:55.565970Z"));
+    }
 }